@@ -0,0 +1,35 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup and reload cost: reading every altar record, deserializing it and rebuilding the block index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AltarLoadBenchmark {
+
+    @Benchmark
+    public void loadAltars(AltarPopulation population) {
+        population.getManager().loadAltars();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import com.vtalters.Altar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-event lookups done by the block, explosion and interact listeners.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AltarLookupBenchmark {
+
+    @Benchmark
+    public Altar getAltarAt(AltarPopulation population) {
+        return population.getManager().getAltarAt(population.nextProbe());
+    }
+
+    @Benchmark
+    public boolean isAltarBlock(AltarPopulation population) {
+        return population.getManager().isAltarBlock(population.nextProbe());
+    }
+
+    /** The check done when a player clicks an altar center: find the altar, then ask whether it is ready. */
+    @Benchmark
+    public boolean isAltarReady(AltarPopulation population) {
+        Altar altar = population.getManager().getAltarAt(population.nextCenter());
+        return altar != null && altar.isReady();
+    }
+}
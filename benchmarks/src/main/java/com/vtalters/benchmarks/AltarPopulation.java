@@ -0,0 +1,101 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import com.vtalters.Altar;
+import com.vtalters.AltarManager;
+import com.vtalters.VtAlters;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+
+/**
+ * A mocked server running VtAlters with a set of {@link SyntheticAltars}.
+ * A third of the altars have every item placed, a third half of them and the rest none.
+ */
+@State(Scope.Benchmark)
+public class AltarPopulation {
+
+    private static final int PROBES = 1 << 12;
+
+    @Param({"10", "1000", "50000"})
+    public int altars;
+
+    @Param({"1", "4", "12"})
+    public int pedestals;
+
+    private AltarManager manager;
+    // Half of the probes hit an altar block, the other half are air next to one.
+    private final Location[] probes = new Location[PROBES];
+    private final Location[] centers = new Location[PROBES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World world = MockBukkit.mock().addSimpleWorld(SyntheticAltars.WORLD);
+        VtAlters plugin = MockBukkit.loadWith(VtAlters.class, new PluginDescriptionFile("VtAlters", "1.0", VtAlters.class.getName()));
+
+        SyntheticAltars.write(plugin.getDataManager().getConfig().createSection("altars"), altars, pedestals);
+        manager = plugin.getAltarManager();
+        manager.loadAltars();
+
+        Random random = new Random(42L);
+        for (int i = 0; i < altars; i++) {
+            placeItems(manager.getAltar(SyntheticAltars.name(i)), i % 3);
+        }
+        for (int i = 0; i < PROBES; i++) {
+            int altar = random.nextInt(altars);
+            Location center = SyntheticAltars.toLocation(world, SyntheticAltars.center(altar));
+            centers[i] = center;
+            if (i % 2 == 0) {
+                int pedestal = random.nextInt(pedestals + 1);
+                probes[i] = pedestal == pedestals
+                        ? center
+                        : SyntheticAltars.toLocation(world, SyntheticAltars.pedestal(altar, pedestal, pedestals));
+            } else {
+                probes[i] = center.clone().add(1 + random.nextInt(SyntheticAltars.PEDESTAL_RADIUS - 1), 0, 0);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    public AltarManager getManager() { return manager; }
+
+    /** Cycles through a fixed mix of altar and non-altar blocks. */
+    public Location nextProbe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    /** Cycles through the centers of randomly picked altars. */
+    public Location nextCenter() {
+        return centers[next++ & (PROBES - 1)];
+    }
+
+    /** 0 places every required item, 1 half of them, 2 none. */
+    private void placeItems(Altar altar, int fill) {
+        int placed = fill == 0 ? pedestals : fill == 1 ? pedestals / 2 : 0;
+        for (int p = 0; p < placed; p++) {
+            altar.addPlacedItem(new ItemStack(SyntheticAltars.requiredItem(p)));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.vtalters.AltarListener;
+import com.vtalters.AltarManager;
+import com.vtalters.BlockPos;
+import com.vtalters.TimingHistogram;
+import com.vtalters.VtAlters;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.PluginDescriptionFile;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless load test: scripted players clicking altars on a MockBukkit server, advanced one tick at a time.
+ * Each player right-clicks a block of its altar every few ticks. Most clicks are on a random pedestal while holding
+ * one of the required items, so items get placed and taken back; the rest are on the center while holding the
+ * activation item, which starts a ritual once the altar is complete. Players wander to another altar now and then.
+ * Bosses are removed every 30 seconds, as if they had been killed.
+ *
+ * <pre>java -cp benchmarks.jar com.vtalters.benchmarks.LoadSimulation [--players 200] [--altars 500]
+ *     [--pedestals 4] [--ticks 6000] [--click-interval 10] [--seed 42] [--max-p99-ms N]</pre>
+ *
+ * Prints the tick time and allocation distribution, entity counts and the plugin's own timings. Exits with 1 if
+ * any scripted action threw, or if the 99th percentile tick time is above {@code --max-p99-ms}.
+ */
+public final class LoadSimulation {
+
+    private static final int ENTITY_SAMPLE_TICKS = 20;
+    private static final int BOSS_CLEANUP_TICKS = 600;
+    private static final int CENTER_CLICK_PERCENT = 20;
+    private static final int WANDER_PERCENT = 2;
+
+    private final int playerCount;
+    private final int altarCount;
+    private final int pedestals;
+    private final int ticks;
+    private final int clickInterval;
+    private final Random random;
+
+    private World world;
+    private VtAlters plugin;
+    private AltarListener listener;
+    private final List<SimulatedPlayer> players = new ArrayList<>();
+    private int[] playerAltars;
+
+    private long[] tickNanos;
+    private long[] tickBytes;
+    private long clicks;
+    private int peakEntities;
+    private int peakRituals;
+    private final Map<String, Integer> peakEntitiesByType = new TreeMap<>();
+    private final Map<String, Integer> failures = new TreeMap<>();
+
+    private LoadSimulation(Map<String, Integer> options) {
+        this.playerCount = options.getOrDefault("players", 200);
+        this.altarCount = options.getOrDefault("altars", 500);
+        this.pedestals = options.getOrDefault("pedestals", 4);
+        this.ticks = options.getOrDefault("ticks", 6000);
+        this.clickInterval = Math.max(1, options.getOrDefault("click-interval", 10));
+        this.random = new Random(options.getOrDefault("seed", 42));
+    }
+
+    public static void main(String[] args) {
+        Map<String, Integer> options = parseOptions(args);
+        LoadSimulation simulation = new LoadSimulation(options);
+        boolean passed;
+        try {
+            simulation.setUp();
+            simulation.run();
+            passed = simulation.report(options.get("max-p99-ms"));
+        } finally {
+            MockBukkit.unmock();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static Map<String, Integer> parseOptions(String[] args) {
+        Map<String, Integer> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option but got '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), Integer.parseInt(args[i + 1]));
+        }
+        return options;
+    }
+
+    private void setUp() {
+        ServerMock server = MockBukkit.mock();
+        world = server.addSimpleWorld(SyntheticAltars.WORLD);
+        // Altars only run while all of their chunks are loaded.
+        for (int i = 0; i < altarCount; i++) {
+            loadChunk(SyntheticAltars.center(i));
+            for (int p = 0; p < pedestals; p++) {
+                loadChunk(SyntheticAltars.pedestal(i, p, pedestals));
+            }
+        }
+
+        plugin = MockBukkit.loadWith(VtAlters.class, new PluginDescriptionFile("VtAlters", "1.0", VtAlters.class.getName()));
+        SyntheticAltars.write(plugin.getDataManager().getConfig().createSection("altars"), altarCount, pedestals);
+        plugin.getAltarManager().loadAltars();
+        listener = new AltarListener(plugin);
+
+        playerAltars = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            SimulatedPlayer player = new SimulatedPlayer(server, "player" + i);
+            server.addPlayer(player);
+            players.add(player);
+            moveToAltar(i, random.nextInt(altarCount));
+        }
+    }
+
+    private void loadChunk(BlockPos pos) {
+        world.getChunkAt(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    private void run() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        ServerMock server = MockBukkit.getMock();
+        tickNanos = new long[ticks];
+        tickBytes = new long[ticks];
+
+        for (int tick = 0; tick < ticks; tick++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < playerCount; i++) {
+                int index = i;
+                if ((tick + index) % clickInterval == 0) {
+                    guard("click", () -> click(index));
+                }
+            }
+            guard("tick", () -> server.getScheduler().performOneTick());
+            tickNanos[tick] = System.nanoTime() - start;
+            tickBytes[tick] = threads.getThreadAllocatedBytes(thread) - allocated;
+
+            if (tick % ENTITY_SAMPLE_TICKS == 0) {
+                sampleEntities();
+            }
+            if (tick % BOSS_CLEANUP_TICKS == BOSS_CLEANUP_TICKS - 1) {
+                for (Entity entity : world.getEntities()) {
+                    if (entity instanceof Zombie) entity.remove();
+                }
+            }
+        }
+    }
+
+    private void click(int index) {
+        SimulatedPlayer player = players.get(index);
+        int altar = playerAltars[index];
+        ItemStack hand;
+        BlockPos target;
+        if (random.nextInt(100) < CENTER_CLICK_PERCENT) {
+            hand = new ItemStack(SyntheticAltars.CENTRAL_ITEM);
+            target = SyntheticAltars.center(altar);
+        } else {
+            hand = new ItemStack(SyntheticAltars.requiredItem(random.nextInt(pedestals)), 16);
+            target = SyntheticAltars.pedestal(altar, random.nextInt(pedestals), pedestals);
+        }
+        player.getInventory().clear();
+        player.getInventory().setItemInMainHand(hand);
+        Block block = world.getBlockAt(target.getX(), target.getY(), target.getZ());
+        listener.onPlayerInteract(new PlayerInteractEvent(player, Action.RIGHT_CLICK_BLOCK, hand, block, BlockFace.UP, EquipmentSlot.HAND));
+        clicks++;
+
+        if (random.nextInt(100) < WANDER_PERCENT) {
+            moveToAltar(index, random.nextInt(altarCount));
+        }
+    }
+
+    private void moveToAltar(int index, int altar) {
+        playerAltars[index] = altar;
+        Location center = SyntheticAltars.toLocation(world, SyntheticAltars.center(altar));
+        players.get(index).teleport(center.add(2, 1, 2));
+    }
+
+    private void guard(String what, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            String key = what + ": " + e.getClass().getName();
+            if (!failures.containsKey(key)) {
+                System.err.println("First failure during " + what + ":");
+                e.printStackTrace();
+            }
+            failures.merge(key, 1, Integer::sum);
+        }
+    }
+
+    private void sampleEntities() {
+        Map<String, Integer> byType = new HashMap<>();
+        List<Entity> entities = world.getEntities();
+        for (Entity entity : entities) {
+            byType.merge(entity.getType().name(), 1, Integer::sum);
+        }
+        peakEntities = Math.max(peakEntities, entities.size());
+        byType.forEach((type, count) -> peakEntitiesByType.merge(type, count, Math::max));
+        peakRituals = Math.max(peakRituals, plugin.getAltarManager().getRitualTicker().size());
+    }
+
+    private boolean report(Integer maxP99Millis) {
+        AltarManager altarManager = plugin.getAltarManager();
+        long summons = altarManager.getSummonCounts().values().stream().mapToLong(LongAdder::sum).sum();
+        long messages = players.stream().mapToLong(SimulatedPlayer::getMessages).sum();
+        long particles = players.stream().mapToLong(SimulatedPlayer::getParticles).sum();
+
+        System.out.printf(Locale.ROOT, "VtAlters load simulation: %d players, %d altars x %d pedestals, %d ticks%n",
+                playerCount, altarCount, pedestals, ticks);
+        long[] nanos = tickNanos.clone();
+        Arrays.sort(nanos);
+        System.out.printf(Locale.ROOT, "Tick time (ms):       p50 %.3f  p90 %.3f  p99 %.3f  max %.3f  mean %.3f%n",
+                percentile(nanos, 50) / 1e6, percentile(nanos, 90) / 1e6, percentile(nanos, 99) / 1e6,
+                nanos[nanos.length - 1] / 1e6, mean(nanos) / 1e6);
+        long[] bytes = tickBytes.clone();
+        Arrays.sort(bytes);
+        System.out.printf(Locale.ROOT, "Allocation/tick (KB): p50 %.1f  p90 %.1f  p99 %.1f  max %.1f  mean %.1f%n",
+                percentile(bytes, 50) / 1024.0, percentile(bytes, 90) / 1024.0, percentile(bytes, 99) / 1024.0,
+                bytes[bytes.length - 1] / 1024.0, mean(bytes) / 1024.0);
+        System.out.printf(Locale.ROOT, "Entities:             peak %d %s, at end %d%n",
+                peakEntities, peakEntitiesByType, world.getEntities().size());
+        System.out.printf(Locale.ROOT, "Activity:             %d clicks, %d summons, peak %d running rituals, %d placed items at end%n",
+                clicks, summons, peakRituals, altarManager.getPlacedItemCount());
+        System.out.printf(Locale.ROOT, "Sent to players:      %d messages, %d particles (%.1f per tick)%n",
+                messages, particles, (double) particles / ticks);
+
+        System.out.println("Plugin timings (us):");
+        for (TimingHistogram timing : plugin.getTimings().getAll()) {
+            if (timing.getCount() == 0) continue;
+            System.out.printf(Locale.ROOT, "  %-28s calls %8d  p50 %8.1f  p99 %8.1f  max %9.1f%n", timing.getName(), timing.getCount(),
+                    timing.getPercentileNanos(50) / 1e3, timing.getPercentileNanos(99) / 1e3, timing.getMaxNanos() / 1e3);
+        }
+
+        boolean passed = failures.isEmpty();
+        if (!passed) {
+            System.out.println("Failures: " + failures);
+        }
+        if (maxP99Millis != null && percentile(nanos, 99) > maxP99Millis * 1_000_000L) {
+            System.out.println("p99 tick time is above the limit of " + maxP99Millis + " ms");
+            passed = false;
+        }
+        return passed;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double mean(long[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Particle;
+
+import java.util.UUID;
+
+/**
+ * A mocked player that counts what the plugin sends it instead of keeping it.
+ * Over a long simulation the message queue of a plain PlayerMock would grow without bound.
+ */
+final class SimulatedPlayer extends PlayerMock {
+
+    private long messages;
+    private long particles;
+
+    SimulatedPlayer(ServerMock server, String name) {
+        super(server, name, UUID.nameUUIDFromBytes(name.getBytes()));
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        messages++;
+    }
+
+    @Override
+    public void spawnParticle(Particle particle, double x, double y, double z, int count,
+                              double offsetX, double offsetY, double offsetZ, double extra) {
+        particles += Math.max(1, count);
+    }
+
+    long getMessages() { return messages; }
+    long getParticles() { return particles; }
+}
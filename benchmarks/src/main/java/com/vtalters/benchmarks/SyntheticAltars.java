@@ -0,0 +1,104 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters.benchmarks;
+
+import com.vtalters.BlockPos;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generated altar records in the altars.yml layout.
+ * Altars sit on a grid, one per 32 blocks, with their pedestals in a ring around the center. Each altar asks for
+ * one item per pedestal, spread over a few item types, and is activated with a totem.
+ */
+final class SyntheticAltars {
+
+    static final String WORLD = "bench";
+    static final Material CENTRAL_ITEM = Material.TOTEM_OF_UNDYING;
+    static final int PEDESTAL_RADIUS = 4;
+
+    private static final int GRID_WIDTH = 250;
+    private static final int SPACING = 32;
+    private static final Material[] ITEMS = {
+            Material.DIAMOND, Material.EMERALD, Material.GOLD_INGOT, Material.IRON_INGOT, Material.NETHER_STAR
+    };
+
+    private SyntheticAltars() {
+    }
+
+    /** Writes {@code altars} records with {@code pedestals} pedestals each under the given section. */
+    static void write(ConfigurationSection altarsSection, int altars, int pedestals) {
+        for (int i = 0; i < altars; i++) {
+            writeAltar(altarsSection.createSection(name(i)), i, pedestals);
+        }
+    }
+
+    static String name(int index) {
+        return "altar_" + index;
+    }
+
+    static BlockPos center(int index) {
+        return new BlockPos(WORLD, (index % GRID_WIDTH) * SPACING, 64, (index / GRID_WIDTH) * SPACING);
+    }
+
+    static BlockPos pedestal(int index, int pedestal, int pedestals) {
+        BlockPos center = center(index);
+        double angle = 2 * Math.PI * pedestal / pedestals;
+        int dx = (int) Math.round(Math.cos(angle) * PEDESTAL_RADIUS);
+        int dz = (int) Math.round(Math.sin(angle) * PEDESTAL_RADIUS);
+        return new BlockPos(WORLD, center.getX() + dx, center.getY(), center.getZ() + dz);
+    }
+
+    /** The item type the n-th pedestal's share of the requirements is paid with. */
+    static Material requiredItem(int pedestal) {
+        return ITEMS[pedestal % ITEMS.length];
+    }
+
+    static Location toLocation(World world, BlockPos pos) {
+        return new Location(world, pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    private static void writeAltar(ConfigurationSection section, int index, int pedestals) {
+        section.set("boss-name", "DefaultBoss");
+        section.set("center", center(index).toString());
+        section.createSection("central-item", item(CENTRAL_ITEM));
+        List<String> pedestalLocations = new ArrayList<>();
+        for (int p = 0; p < pedestals; p++) {
+            pedestalLocations.add(pedestal(index, p, pedestals).toString());
+        }
+        section.set("pedestal-locations", pedestalLocations);
+
+        Map<Material, Integer> amounts = new HashMap<>();
+        for (int p = 0; p < pedestals; p++) {
+            amounts.merge(requiredItem(p), 1, Integer::sum);
+        }
+        List<Map<String, Object>> requiredItems = new ArrayList<>();
+        for (Map.Entry<Material, Integer> entry : amounts.entrySet()) {
+            Map<String, Object> itemEntry = new HashMap<>();
+            itemEntry.put("item", item(entry.getKey()));
+            itemEntry.put("amount", entry.getValue());
+            requiredItems.add(itemEntry);
+        }
+        section.set("required-items", requiredItems);
+    }
+
+    // Same layout ItemStack#serialize produces for plain items, without touching the server's unsafe values.
+    private static Map<String, Object> item(Material material) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("type", material.name());
+        return item;
+    }
+}
@@ -8,12 +8,12 @@
 
 package com.vtalters;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,47 +24,145 @@ public class Altar {
     private String bossName;
     private ItemStack centralItem;
     private Map<ItemStack, Integer> requiredItems;
+    private BlockPos center;
+    private final List<BlockPos> pedestals = new ArrayList<>();
+
+    // Resolved only while the altar's world is loaded.
+    private World world;
     private Location centerLocation;
-    private List<Location> pedestalLocations;
+    private final List<Location> pedestalLocations = new ArrayList<>();
+
+    private final Map<ItemFingerprint, Integer> requiredIndex = new HashMap<>();
+    // The key of requiredItems each fingerprint belongs to.
+    private final Map<ItemFingerprint, ItemStack> requiredKeys = new HashMap<>();
+    // Required items currently sitting on this altar's pedestals.
+    private final Map<ItemFingerprint, Integer> placedCounts = new HashMap<>();
+    private int satisfiedRequirements;
 
     public Altar(String name) {
         this.name = name;
         this.requiredItems = new HashMap<>();
-        this.pedestalLocations = new ArrayList<>();
     }
 
     public String getName() { return name; }
     public String getBossName() { return bossName; }
     public ItemStack getCentralItem() { return centralItem; }
     public Map<ItemStack, Integer> getRequiredItems() { return requiredItems; }
+    public BlockPos getCenter() { return center; }
+    public List<BlockPos> getPedestals() { return Collections.unmodifiableList(pedestals); }
+    public String getWorldName() { return center != null ? center.getWorldName() : null; }
+    public World getWorld() { return world; }
+    public boolean isBound() { return world != null; }
     public Location getCenterLocation() { return centerLocation; }
-    public List<Location> getPedestalLocations() { return pedestalLocations; }
+    public List<Location> getPedestalLocations() { return Collections.unmodifiableList(pedestalLocations); }
 
     public void setBossName(String bossName) { this.bossName = bossName; }
     public void setCentralItem(ItemStack centralItem) { this.centralItem = centralItem; }
-    public void setRequiredItems(Map<ItemStack, Integer> requiredItems) { this.requiredItems = requiredItems; }
-    public void setCenterLocation(Location centerLocation) { this.centerLocation = centerLocation; }
-    public void setPedestalLocations(List<Location> pedestalLocations) { this.pedestalLocations = pedestalLocations; }
+    public void setRequiredItems(Map<ItemStack, Integer> requiredItems) {
+        this.requiredItems = requiredItems;
+        requiredIndex.clear();
+        requiredKeys.clear();
+        requiredItems.forEach((item, amount) -> {
+            ItemFingerprint fingerprint = ItemFingerprint.of(item);
+            requiredIndex.merge(fingerprint, amount, Integer::sum);
+            requiredKeys.putIfAbsent(fingerprint, item);
+        });
+        resetPlacedItems();
+    }
 
+    public void setCenter(BlockPos center) {
+        this.center = center;
+        if (world != null && (center == null || !center.isIn(world))) {
+            world = null;
+        }
+        resolveLocations();
+    }
 
-    public static String locationToString(Location loc) {
-        if (loc == null) return null;
-        return String.format("%s,%d,%d,%d", loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    public void setPedestals(List<BlockPos> pedestals) {
+        this.pedestals.clear();
+        this.pedestals.addAll(pedestals);
+        resolveLocations();
     }
 
-    public static Location locationFromString(String locString) {
-        if (locString == null || locString.isEmpty() || locString.equalsIgnoreCase("not_set")) return null;
-        String[] parts = locString.split(",");
-        if (parts.length < 4) return null;
-        World world = Bukkit.getWorld(parts[0]);
-        if (world == null) return null;
-        try {
-            int x = Integer.parseInt(parts[1]);
-            int y = Integer.parseInt(parts[2]);
-            int z = Integer.parseInt(parts[3]);
-            return new Location(world, x, y, z);
-        } catch (NumberFormatException e) {
-            return null;
+    public void addPedestal(BlockPos pedestal) {
+        pedestals.add(pedestal);
+        if (pedestal.isIn(world)) {
+            pedestalLocations.add(pedestal.toLocation(world));
         }
     }
-}
\ No newline at end of file
+
+    public boolean removePedestal(BlockPos pedestal) {
+        if (!pedestals.remove(pedestal)) return false;
+        resolveLocations();
+        return true;
+    }
+
+    public void clearPedestals() {
+        pedestals.clear();
+        pedestalLocations.clear();
+    }
+
+    public void bindWorld(World world) {
+        if (center == null || !center.isIn(world)) return;
+        this.world = world;
+        resolveLocations();
+    }
+
+    public void unbindWorld() {
+        this.world = null;
+        resolveLocations();
+    }
+
+    private void resolveLocations() {
+        centerLocation = world != null && center != null ? center.toLocation(world) : null;
+        pedestalLocations.clear();
+        if (world == null) return;
+        for (BlockPos pedestal : pedestals) {
+            if (pedestal.isIn(world)) {
+                pedestalLocations.add(pedestal.toLocation(world));
+            }
+        }
+    }
+
+    /** Returns the key of {@link #getRequiredItems()} that is similar to {@code item}, or null if it is not required. */
+    public ItemStack getRequiredKey(ItemStack item) {
+        if (item == null || requiredKeys.isEmpty()) return null;
+        return requiredKeys.get(ItemFingerprint.of(item));
+    }
+
+    public boolean addPlacedItem(ItemStack item) {
+        if (item == null || requiredIndex.isEmpty()) return false;
+        ItemFingerprint fingerprint = ItemFingerprint.of(item);
+        Integer required = requiredIndex.get(fingerprint);
+        if (required == null) return false;
+        int placed = placedCounts.merge(fingerprint, 1, Integer::sum);
+        if (placed == required) {
+            satisfiedRequirements++;
+        }
+        return true;
+    }
+
+    public void removePlacedItem(ItemStack item) {
+        if (item == null || placedCounts.isEmpty()) return;
+        ItemFingerprint fingerprint = ItemFingerprint.of(item);
+        Integer placed = placedCounts.get(fingerprint);
+        if (placed == null) return;
+        if (placed.equals(requiredIndex.get(fingerprint))) {
+            satisfiedRequirements--;
+        }
+        if (placed <= 1) {
+            placedCounts.remove(fingerprint);
+        } else {
+            placedCounts.put(fingerprint, placed - 1);
+        }
+    }
+
+    public void resetPlacedItems() {
+        placedCounts.clear();
+        satisfiedRequirements = 0;
+    }
+
+    public boolean isReady() {
+        return satisfiedRequirements >= requiredIndex.size();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+public class AltarBlock {
+
+    public enum Role {
+        CENTER,
+        PEDESTAL
+    }
+
+    private final Altar altar;
+    private final Role role;
+
+    public AltarBlock(Altar altar, Role role) {
+        this.altar = altar;
+        this.role = role;
+    }
+
+    public Altar getAltar() { return altar; }
+    public Role getRole() { return role; }
+    public boolean isCenter() { return role == Role.CENTER; }
+    public boolean isPedestal() { return role == Role.PEDESTAL; }
+}
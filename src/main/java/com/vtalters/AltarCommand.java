@@ -13,12 +13,14 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.StringUtil;
 
+import java.sql.SQLException;
 import java.util.*;
+import java.util.logging.Level;
 
 public class AltarCommand implements CommandExecutor, TabCompleter {
 
@@ -79,6 +81,12 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
             case "edit":
                 handleEdit(player, args, label);
                 break;
+            case "migrate":
+                handleMigrate(player, args, label);
+                break;
+            case "stats":
+                handleStats(player, args);
+                break;
             default:
                 sendHelpMessage(player, label);
                 break;
@@ -96,17 +104,12 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
             return;
         }
         String altarName = args[1];
-        FileConfiguration data = plugin.getDataManager().getConfig();
-        if (data.isConfigurationSection("altars." + altarName)) {
+        AltarManager altarManager = plugin.getAltarManager();
+        if (altarManager.getAltar(altarName) != null) {
             lang.sendMessage(player, "altar-commands.error-altar-exists", "%name%", altarName);
             return;
         }
-        data.set("altars." + altarName + ".boss-name", "DefaultBoss");
-        data.set("altars." + altarName + ".center", "not_set");
-        data.set("altars." + altarName + ".central-item", null);
-        data.set("altars." + altarName + ".required-items", new ArrayList<Map<String, Object>>());
-        data.set("altars." + altarName + ".pedestal-locations", new ArrayList<String>());
-        saveAndReload();
+        altarManager.createAltar(altarName);
         
         lang.sendMessage(player, "altar-commands.created", "%name%", altarName);
     }
@@ -121,13 +124,13 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
             return;
         }
         String altarName = args[1];
-        FileConfiguration data = plugin.getDataManager().getConfig();
-        if (!data.isConfigurationSection("altars." + altarName)) {
+        AltarManager altarManager = plugin.getAltarManager();
+        Altar altar = altarManager.getAltar(altarName);
+        if (altar == null) {
             lang.sendMessage(player, "altar-commands.error-no-altar", "%name%", altarName);
             return;
         }
-        data.set("altars." + altarName, null);
-        saveAndReload();
+        altarManager.deleteAltar(altar);
         lang.sendMessage(player, "altar-commands.deleted", "%name%", altarName);
     }
 
@@ -136,12 +139,12 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
             lang.sendMessage(player, "general.no-permission");
             return;
         }
-        FileConfiguration data = plugin.getDataManager().getConfig();
+        Set<String> altarNames = plugin.getAltarManager().getAltarNames();
         lang.sendRawMessage(player, "altar-commands.list-header");
-        if (!data.isConfigurationSection("altars") || data.getConfigurationSection("altars").getKeys(false).isEmpty()) {
+        if (altarNames.isEmpty()) {
             lang.sendRawMessage(player, "altar-commands.list-empty");
         } else {
-            data.getConfigurationSection("altars").getKeys(false).forEach(name -> lang.sendRawMessage(player, "altar-commands.list-entry", "%name%", name));
+            altarNames.forEach(name -> lang.sendRawMessage(player, "altar-commands.list-entry", "%name%", name));
         }
     }
 
@@ -155,24 +158,23 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
             return;
         }
         String altarName = args[1];
-        FileConfiguration data = plugin.getDataManager().getConfig();
-        if (!data.isConfigurationSection("altars." + altarName)) {
+        Altar altar = plugin.getAltarManager().getAltar(altarName);
+        if (altar == null) {
             lang.sendMessage(player, "altar-commands.error-no-altar", "%name%", altarName);
             return;
         }
 
         String editAction = args[2].toLowerCase();
-        String pathPrefix = "altars." + altarName + ".";
 
         switch (editAction) {
             case "set":
-                handleEditSet(player, args, data, pathPrefix, label);
+                handleEditSet(player, args, altar, label);
                 break;
             case "add":
-                handleEditAdd(player, args, data, pathPrefix, altarName, label);
+                handleEditAdd(player, args, altar, label);
                 break;
             case "remove":
-                handleEditRemove(player, args, data, pathPrefix, altarName, label);
+                handleEditRemove(player, args, altar, label);
                 break;
             default:
                 sendHelpMessage(player, label);
@@ -180,7 +182,7 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
         }
     }
 
-    private void handleEditSet(Player player, String[] args, FileConfiguration data, String pathPrefix, String label) {
+    private void handleEditSet(Player player, String[] args, Altar altar, String label) {
         if (args.length < 4) { sendHelpMessage(player, label); return; }
         String setType = args[3].toLowerCase();
         if (setType.equals("center")) {
@@ -189,26 +191,26 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                 lang.sendMessage(player, "wand.error-no-selection");
                 return;
             }
-            data.set(pathPrefix + "center", Altar.locationToString(selection.getBlock().getLocation()));
+            plugin.getAltarManager().setCenter(altar, selection.getBlock().getLocation());
             lang.sendMessage(player, "altar-commands.center-set");
-            saveAndReload();
         } else if (setType.equals("mob")) {
             if (args.length < 5) {
                 lang.sendMessage(player, "general.usage", "%usage%", "/" + label + " edit " + args[1] + " set mob <mob_name>");
                 return;
             }
             String mobName = args[4];
-            data.set(pathPrefix + "boss-name", mobName);
+            plugin.getAltarManager().setBossName(altar, mobName);
             lang.sendMessage(player, "altar-commands.boss-set", "%name%", args[1], "%mob%", mobName);
-            saveAndReload();
         } else {
             sendHelpMessage(player, label);
         }
     }
 
-    private void handleEditAdd(Player player, String[] args, FileConfiguration data, String pathPrefix, String altarName, String label) {
+    private void handleEditAdd(Player player, String[] args, Altar altar, String label) {
         if (args.length < 4) { sendHelpMessage(player, label); return; }
         String addType = args[3].toLowerCase();
+        String altarName = altar.getName();
+        AltarManager altarManager = plugin.getAltarManager();
         
         switch (addType) {
             case "itemcenter":
@@ -220,14 +222,13 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                 
                 ItemStack centralItemTemplate = itemInHand.clone();
                 centralItemTemplate.setAmount(1);
-                data.set(pathPrefix + "central-item", centralItemTemplate.serialize());
+                altarManager.setCentralItem(altar, centralItemTemplate);
 
                 String centralItemName = itemInHand.hasItemMeta() && itemInHand.getItemMeta().hasDisplayName()
                         ? itemInHand.getItemMeta().getDisplayName()
                         : itemInHand.getType().name().replace('_', ' ').toLowerCase();
 
                 lang.sendMessage(player, "altar-commands.center-item-set", "%item_name%", centralItemName);
-                saveAndReload();
                 break;
                 
             case "pedestal":
@@ -236,28 +237,25 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                     lang.sendMessage(player, "wand.error-no-selection");
                     return;
                 }
-                Location centerLoc = Altar.locationFromString(data.getString(pathPrefix + "center"));
-                if (centerLoc == null) {
-                    lang.sendMessage(player, "altar-commands.error-must-set-center");
-                    return;
-                }
                 double maxRadius = plugin.getConfig().getDouble("altar.max-pedestal-radius", 10.0);
-                if (!selection.getWorld().equals(centerLoc.getWorld()) || selection.distance(centerLoc) > maxRadius) {
-                    lang.sendMessage(player, "altar-commands.error-pedestal-too-far", "%radius%", String.valueOf(maxRadius));
-                    return;
-                }
                 Location blockLocation = selection.getBlock().getLocation();
-                String pedestalPath = pathPrefix + "pedestal-locations";
-                List<String> locations = data.getStringList(pedestalPath);
-                String locString = Altar.locationToString(blockLocation);
-                if (locations.contains(locString)) {
-                    lang.sendMessage(player, "altar-commands.error-pedestal-already-exists");
-                    return;
-                }
-                locations.add(locString);
-                data.set(pedestalPath, locations);
-                lang.sendMessage(player, "altar-commands.pedestal-added");
-                saveAndReload();
+                altarManager.editAltar(altar, () -> {
+                    BlockPos center = altar.getCenter();
+                    if (center == null) {
+                        lang.sendMessage(player, "altar-commands.error-must-set-center");
+                        return;
+                    }
+                    if (!center.isIn(selection.getWorld()) || selection.distance(center.toLocation(selection.getWorld())) > maxRadius) {
+                        lang.sendMessage(player, "altar-commands.error-pedestal-too-far", "%radius%", String.valueOf(maxRadius));
+                        return;
+                    }
+                    if (altar.getPedestals().contains(BlockPos.of(blockLocation))) {
+                        lang.sendMessage(player, "altar-commands.error-pedestal-already-exists");
+                        return;
+                    }
+                    altarManager.addPedestal(altar, blockLocation);
+                    lang.sendMessage(player, "altar-commands.pedestal-added");
+                });
                 break;
                 
             case "item":
@@ -282,44 +280,33 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                         return;
                     }
 
-                    String reqPedestalPath = pathPrefix + "pedestal-locations";
-                    int pedestalCount = data.getStringList(reqPedestalPath).size();
+                    ItemStack requiredItemTemplate = requiredItemInHand.clone();
+                    requiredItemTemplate.setAmount(1);
+                    altarManager.editAltar(altar, () -> {
+                        int pedestalCount = altar.getPedestals().size();
 
-                    if (pedestalCount == 0) {
-                        lang.sendMessage(player, "altar-commands.error-must-add-pedestals-first");
-                        return;
-                    }
+                        if (pedestalCount == 0) {
+                            lang.sendMessage(player, "altar-commands.error-must-add-pedestals-first");
+                            return;
+                        }
 
-                    String requiredItemPath = pathPrefix + "required-items";
-                    List<Map<?, ?>> requiredItemsList = data.getMapList(requiredItemPath);
-                    int currentTotalRequired = 0;
-                    for (Map<?, ?> map : requiredItemsList) {
-                        if (map.get("amount") instanceof Integer) {
-                            currentTotalRequired += (Integer) map.get("amount");
+                        int currentTotalRequired = 0;
+                        for (int requiredAmount : altar.getRequiredItems().values()) {
+                            currentTotalRequired += requiredAmount;
                         }
-                    }
 
-                    if (currentTotalRequired + amount > pedestalCount) {
-                        lang.sendMessage(player, "altar-commands.error-items-exceed-pedestals",
-                                "%total_required%", String.valueOf(currentTotalRequired + amount),
-                                "%pedestal_count%", String.valueOf(pedestalCount));
-                        return;
-                    }
-                    
-                    ItemStack requiredItemTemplate = requiredItemInHand.clone();
-                    requiredItemTemplate.setAmount(1);
+                        if (currentTotalRequired + amount > pedestalCount) {
+                            lang.sendMessage(player, "altar-commands.error-items-exceed-pedestals",
+                                    "%total_required%", String.valueOf(currentTotalRequired + amount),
+                                    "%pedestal_count%", String.valueOf(pedestalCount));
+                            return;
+                        }
 
-                    Map<String, Object> newItemEntry = new HashMap<>();
-                    newItemEntry.put("item", requiredItemTemplate.serialize());
-                    newItemEntry.put("amount", amount);
-                    
-                    requiredItemsList.add(newItemEntry);
-                    data.set(requiredItemPath, requiredItemsList);
-
-                    lang.sendMessage(player, "altar-commands.required-item-set",
-                            "%amount%", String.valueOf(amount),
-                            "%item_name%", requiredItemName);
-                    saveAndReload();
+                        altarManager.addRequiredItem(altar, requiredItemTemplate, amount);
+                        lang.sendMessage(player, "altar-commands.required-item-set",
+                                "%amount%", String.valueOf(amount),
+                                "%item_name%", requiredItemName);
+                    });
                 } catch (NumberFormatException e) {
                     lang.sendMessage(player, "altar-commands.error-invalid-number");
                 }
@@ -332,24 +319,23 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
     }
 
 
-    @SuppressWarnings("unchecked")
-    private void handleEditRemove(Player player, String[] args, FileConfiguration data, String pathPrefix, String altarName, String label) {
+    private void handleEditRemove(Player player, String[] args, Altar altar, String label) {
         if (args.length < 4) { sendHelpMessage(player, label); return; }
         String removeType = args[3].toLowerCase();
+        String altarName = altar.getName();
+        AltarManager altarManager = plugin.getAltarManager();
 
         switch(removeType) {
             case "pedestal":
-                String pedestalPath = pathPrefix + "pedestal-locations";
-                List<String> locations = data.getStringList(pedestalPath);
-
                 if (args.length > 4 && args[4].equalsIgnoreCase("all")) {
-                    if (locations.isEmpty()) {
-                        lang.sendMessage(player, "altar-commands.error-no-pedestals-to-clear", "%name%", altarName);
-                        return;
-                    }
-                    data.set(pedestalPath, new ArrayList<String>());
-                    lang.sendMessage(player, "altar-commands.pedestals-cleared", "%name%", altarName);
-                    saveAndReload();
+                    altarManager.editAltar(altar, () -> {
+                        if (altar.getPedestals().isEmpty()) {
+                            lang.sendMessage(player, "altar-commands.error-no-pedestals-to-clear", "%name%", altarName);
+                            return;
+                        }
+                        altarManager.clearPedestals(altar);
+                        lang.sendMessage(player, "altar-commands.pedestals-cleared", "%name%", altarName);
+                    });
                     return;
                 }
 
@@ -359,30 +345,26 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                     return;
                 }
                 Location blockLocation = selection.getBlock().getLocation();
-                String locString = Altar.locationToString(blockLocation);
-
-                if (!locations.contains(locString)) {
-                    lang.sendMessage(player, "altar-commands.error-pedestal-not-found");
-                    return;
-                }
-                locations.remove(locString);
-                data.set(pedestalPath, locations);
-                lang.sendMessage(player, "altar-commands.pedestal-removed");
-                saveAndReload();
+                altarManager.editAltar(altar, () -> {
+                    if (!altar.getPedestals().contains(BlockPos.of(blockLocation))) {
+                        lang.sendMessage(player, "altar-commands.error-pedestal-not-found");
+                        return;
+                    }
+                    altarManager.removePedestal(altar, blockLocation);
+                    lang.sendMessage(player, "altar-commands.pedestal-removed");
+                });
                 break;
 
             case "item":
-                String itemPath = pathPrefix + "required-items";
-                List<Map<?, ?>> itemsList = data.getMapList(itemPath);
-
                 if (args.length > 4 && args[4].equalsIgnoreCase("all")) {
-                    if (itemsList.isEmpty()) {
-                        lang.sendMessage(player, "altar-commands.error-no-required-items-to-remove");
-                        return;
-                    }
-                    data.set(itemPath, new ArrayList<>());
-                    lang.sendMessage(player, "altar-commands.required-items-cleared");
-                    saveAndReload();
+                    altarManager.editAltar(altar, () -> {
+                        if (altar.getRequiredItems().isEmpty()) {
+                            lang.sendMessage(player, "altar-commands.error-no-required-items-to-remove");
+                            return;
+                        }
+                        altarManager.clearRequiredItems(altar);
+                        lang.sendMessage(player, "altar-commands.required-items-cleared");
+                    });
                     return;
                 }
 
@@ -391,28 +373,18 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
                     lang.sendMessage(player, "altar-commands.error-no-item-in-hand");
                     return;
                 }
-                if (itemsList.isEmpty()) {
-                    lang.sendMessage(player, "altar-commands.error-no-required-items-to-remove");
-                    return;
-                }
-                
-                int initialSize = itemsList.size();
-                itemsList.removeIf(map -> {
-                    Object itemObj = map.get("item");
-                    if (itemObj instanceof Map) {
-                        ItemStack templateItem = ItemStack.deserialize((Map<String, Object>) itemObj);
-                        return templateItem.isSimilar(itemInHand);
+                ItemStack itemToRemove = itemInHand.clone();
+                altarManager.editAltar(altar, () -> {
+                    if (altar.getRequiredItems().isEmpty()) {
+                        lang.sendMessage(player, "altar-commands.error-no-required-items-to-remove");
+                        return;
+                    }
+                    if (altarManager.removeRequiredItem(altar, itemToRemove)) {
+                        lang.sendMessage(player, "altar-commands.required-item-removed");
+                    } else {
+                        lang.sendMessage(player, "altar-commands.error-no-matching-item-to-remove");
                     }
-                    return false;
                 });
-
-                if (itemsList.size() < initialSize) {
-                    data.set(itemPath, itemsList);
-                    lang.sendMessage(player, "altar-commands.required-item-removed");
-                    saveAndReload();
-                } else {
-                    lang.sendMessage(player, "altar-commands.error-no-matching-item-to-remove");
-                }
                 break;
             
             default:
@@ -421,10 +393,99 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
         }
     }
 
-    private void saveAndReload() {
-        plugin.getDataManager().saveConfig();
-        plugin.getDataManager().reloadConfig();
-        plugin.getAltarManager().loadAltars();
+    private void handleMigrate(Player player, String[] args, String label) {
+        if (!player.hasPermission("vtalters.command.migrate")) {
+            lang.sendMessage(player, "general.no-permission");
+            return;
+        }
+        if (args.length < 2) {
+            lang.sendMessage(player, "general.usage", "%usage%", "/" + label + " migrate <yaml|sqlite>");
+            return;
+        }
+        String targetType = args[1].toLowerCase();
+        if (!targetType.equals("yaml") && !targetType.equals("sqlite")) {
+            lang.sendMessage(player, "altar-commands.migrate-invalid-type", "%type%", args[1]);
+            return;
+        }
+        AltarStore source = plugin.getAltarStore();
+        if (source.getType().equals(targetType)) {
+            lang.sendMessage(player, "altar-commands.migrate-same-store", "%type%", targetType);
+            return;
+        }
+
+        AltarStore target;
+        try {
+            target = plugin.openAltarStore(targetType);
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not open the '" + targetType + "' altar storage for migration", e);
+            lang.sendMessage(player, "altar-commands.migrate-failed", "%type%", targetType);
+            return;
+        }
+
+        plugin.getAltarManager().saveDirtyAltars();
+        source.flush();
+        Map<String, ConfigurationSection> records = source.loadAll();
+        for (String staleName : target.loadAll().keySet()) {
+            if (!records.containsKey(staleName)) {
+                target.delete(staleName);
+            }
+        }
+        records.forEach(target::save);
+        target.close();
+
+        lang.sendMessage(player, "altar-commands.migrated", "%count%", String.valueOf(records.size()), "%type%", targetType);
+    }
+
+    private void handleStats(Player player, String[] args) {
+        if (!player.hasPermission("vtalters.command.stats")) {
+            lang.sendMessage(player, "general.no-permission");
+            return;
+        }
+        Timings timings = plugin.getTimings();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            timings.reset();
+            lang.sendMessage(player, "stats.timings-reset");
+            return;
+        }
+        AltarManager altarManager = plugin.getAltarManager();
+        QualityController quality = altarManager.getQualityController();
+        ParticleBudget budget = altarManager.getParticleBudget();
+        lang.sendRawMessage(player, "stats.header");
+        if (quality.isEnabled()) {
+            lang.sendRawMessage(player, "stats.quality", "%tier%", quality.getTier().name(),
+                    "%mspt%", String.format(Locale.ROOT, "%.1f", quality.getMspt()));
+        } else {
+            lang.sendRawMessage(player, "stats.quality-disabled");
+        }
+        lang.sendRawMessage(player, "stats.effects", "%altars%", String.valueOf(altarManager.getAltarNames().size()),
+                "%emitters%", String.valueOf(altarManager.getEffectEngine().size()),
+                "%rituals%", String.valueOf(altarManager.getRitualTicker().size()));
+        lang.sendRawMessage(player, "stats.budget", "%budget%", String.valueOf(budget.getPerTick()),
+                "%detail%", String.valueOf(budget.getDetailLevel()),
+                "%throttled%", String.valueOf(budget.getThrottledTicks()),
+                "%dropped%", String.valueOf(budget.getDroppedParticles()));
+
+        double ticks = timings.getWindowTicks();
+        lang.sendRawMessage(player, "stats.timings-header", "%seconds%", String.valueOf(Math.round(ticks / 20)));
+        boolean any = false;
+        for (TimingHistogram timing : timings.getAll()) {
+            long calls = timing.getCount();
+            if (calls == 0) continue;
+            any = true;
+            lang.sendRawMessage(player, "stats.timing", "%name%", timing.getName(),
+                    "%per-tick%", String.format(Locale.ROOT, "%.3f", timing.getTotalNanos() / ticks / 1_000_000.0),
+                    "%calls%", String.valueOf(calls),
+                    "%p50%", formatMicros(timing.getPercentileNanos(50)),
+                    "%p99%", formatMicros(timing.getPercentileNanos(99)),
+                    "%max%", formatMicros(timing.getMaxNanos()));
+        }
+        if (!any) {
+            lang.sendRawMessage(player, "stats.timings-empty");
+        }
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
     }
 
     private void sendHelpMessage(Player player, String label) {
@@ -434,6 +495,8 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
         lang.sendRawMessage(player, "help.list", "%label%", label);
         lang.sendRawMessage(player, "help.wand", "%label%", label);
         lang.sendRawMessage(player, "help.reload", "%label%", label);
+        lang.sendRawMessage(player, "help.migrate", "%label%", label);
+        lang.sendRawMessage(player, "help.stats", "%label%", label);
         lang.sendRawMessage(player, "help.edit-header");
         lang.sendRawMessage(player, "help.edit-set-center", "%label%", label);
         lang.sendRawMessage(player, "help.edit-set-mob", "%label%", label);
@@ -449,14 +512,17 @@ public class AltarCommand implements CommandExecutor, TabCompleter {
         if (!command.getName().equalsIgnoreCase("vtalters")) return Collections.emptyList();
 
         if (args.length == 1) {
-            return StringUtil.copyPartialMatches(args[0], Arrays.asList("create", "delete", "list", "wand", "reload", "edit"), new ArrayList<>());
+            return StringUtil.copyPartialMatches(args[0], Arrays.asList("create", "delete", "list", "wand", "reload", "edit", "migrate", "stats"), new ArrayList<>());
         }
         if (args.length == 2 && (args[0].equalsIgnoreCase("delete") || args[0].equalsIgnoreCase("edit"))) {
-            FileConfiguration data = plugin.getDataManager().getConfig();
-            if (data.isConfigurationSection("altars")) {
-                Set<String> altarNames = data.getConfigurationSection("altars").getKeys(false);
-                return StringUtil.copyPartialMatches(args[1], altarNames, new ArrayList<>());
-            }
+            Set<String> altarNames = plugin.getAltarManager().getAltarNames();
+            return StringUtil.copyPartialMatches(args[1], altarNames, new ArrayList<>());
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("migrate")) {
+            return StringUtil.copyPartialMatches(args[1], Arrays.asList("yaml", "sqlite"), new ArrayList<>());
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            return StringUtil.copyPartialMatches(args[1], Collections.singletonList("reset"), new ArrayList<>());
         }
         if (args.length == 3 && args[0].equalsIgnoreCase("edit")) {
             return StringUtil.copyPartialMatches(args[2], Arrays.asList("set", "add", "remove"), new ArrayList<>());
@@ -17,59 +17,122 @@ import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockExplodeEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 
 public class AltarListener implements Listener {
 
     private final VtAlters plugin;
     private final WandManager wandManager;
+    private final TimingHistogram interactTiming;
+    private final TimingHistogram breakTiming;
+    private final TimingHistogram entityExplodeTiming;
+    private final TimingHistogram blockExplodeTiming;
+    private final TimingHistogram worldLoadTiming;
+    private final TimingHistogram worldUnloadTiming;
+    private final TimingHistogram chunkLoadTiming;
+    private final TimingHistogram chunkUnloadTiming;
 
     public AltarListener(VtAlters plugin) {
         this.plugin = plugin;
         this.wandManager = plugin.getWandManager();
+        Timings timings = plugin.getTimings();
+        this.interactTiming = timings.get("listener.player-interact");
+        this.breakTiming = timings.get("listener.block-break");
+        this.entityExplodeTiming = timings.get("listener.entity-explode");
+        this.blockExplodeTiming = timings.get("listener.block-explode");
+        this.worldLoadTiming = timings.get("listener.world-load");
+        this.worldUnloadTiming = timings.get("listener.world-unload");
+        this.chunkLoadTiming = timings.get("listener.chunk-load");
+        this.chunkUnloadTiming = timings.get("listener.chunk-unload");
     }
 
     @EventHandler(priority = EventPriority.LOW)
     public void onPlayerInteract(PlayerInteractEvent event) {
-        if (event.getClickedBlock() == null) return;
-        Player player = event.getPlayer();
+        long start = System.nanoTime();
+        try {
+            if (event.getClickedBlock() == null) return;
+            Player player = event.getPlayer();
 
-        if (wandManager.isWand(player.getInventory().getItemInMainHand())) {
-            if (event.getAction() == Action.RIGHT_CLICK_BLOCK || event.getAction() == Action.LEFT_CLICK_BLOCK) {
-                event.setCancelled(true); 
-                wandManager.setSelection(player, event.getClickedBlock().getLocation());
+            if (wandManager.isWand(player.getInventory().getItemInMainHand())) {
+                if (event.getAction() == Action.RIGHT_CLICK_BLOCK || event.getAction() == Action.LEFT_CLICK_BLOCK) {
+                    event.setCancelled(true); 
+                    wandManager.setSelection(player, event.getClickedBlock().getLocation());
+                }
+                return; 
             }
-            return; 
-        }
 
-        AltarManager altarManager = plugin.getAltarManager();
+            AltarManager altarManager = plugin.getAltarManager();
 
-        if (altarManager.isAltarBlock(event.getClickedBlock().getLocation())) {
-             if (event.getAction() == Action.RIGHT_CLICK_BLOCK && event.getHand() == EquipmentSlot.HAND) {
-                altarManager.handleBlockClick(player, event.getClickedBlock());
-             }
-             event.setCancelled(true);
+            if (altarManager.isAltarBlock(event.getClickedBlock())) {
+                 if (event.getAction() == Action.RIGHT_CLICK_BLOCK && event.getHand() == EquipmentSlot.HAND) {
+                    altarManager.handleBlockClick(player, event.getClickedBlock());
+                 }
+                 event.setCancelled(true);
+            }
+        } finally {
+            interactTiming.recordSince(start);
         }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
-        if (wandManager.isWand(event.getPlayer().getInventory().getItemInMainHand())) {
-            event.setCancelled(true);
-            return;
-        }
-        if (plugin.getAltarManager().isAltarBlock(event.getBlock().getLocation())) {
-            event.setCancelled(true);
+        long start = System.nanoTime();
+        try {
+            if (wandManager.isWand(event.getPlayer().getInventory().getItemInMainHand())) {
+                event.setCancelled(true);
+                return;
+            }
+            if (plugin.getAltarManager().isAltarBlock(event.getBlock())) {
+                event.setCancelled(true);
+            }
+        } finally {
+            breakTiming.recordSince(start);
         }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onEntityExplode(EntityExplodeEvent event) {
-        event.blockList().removeIf(block -> plugin.getAltarManager().isAltarBlock(block.getLocation()));
+        long start = System.nanoTime();
+        plugin.getAltarManager().removeProtectedBlocks(event.getEntity().getWorld(), event.blockList());
+        entityExplodeTiming.recordSince(start);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockExplode(BlockExplodeEvent event) {
-        event.blockList().removeIf(block -> plugin.getAltarManager().isAltarBlock(block.getLocation()));
+        long start = System.nanoTime();
+        plugin.getAltarManager().removeProtectedBlocks(event.getBlock().getWorld(), event.blockList());
+        blockExplodeTiming.recordSince(start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        long start = System.nanoTime();
+        plugin.getAltarManager().onWorldLoad(event.getWorld());
+        worldLoadTiming.recordSince(start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        long start = System.nanoTime();
+        plugin.getAltarManager().onWorldUnload(event.getWorld());
+        worldUnloadTiming.recordSince(start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        long start = System.nanoTime();
+        plugin.getAltarManager().onChunkLoad(event.getChunk());
+        chunkLoadTiming.recordSince(start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        long start = System.nanoTime();
+        plugin.getAltarManager().onChunkUnload(event.getChunk());
+        chunkUnloadTiming.recordSince(start);
     }
 }
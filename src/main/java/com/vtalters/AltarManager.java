@@ -13,150 +13,502 @@ import io.lumine.mythic.bukkit.MythicBukkit;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.ArmorStand;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Zombie;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 public class AltarManager {
 
     private final VtAlters plugin;
     private final LanguageManager lang;
-    private final Map<Location, Altar> altarMap = new HashMap<>();
-    private final Map<Location, Item> placedItemsDisplay = new HashMap<>();
-    private final Map<Location, UUID> itemPlacers = new HashMap<>();
-    private final List<BukkitTask> activeTasks = new ArrayList<>();
-    private final Map<Location, BukkitTask> peripheralParticleTasks = new HashMap<>();
-    private static final double ARMOR_STAND_HEAD_OFFSET = 0.75;
-
-    private final Set<Location> allAltarBlocks = new HashSet<>();
-    private final Set<Altar> summoningAltars = new HashSet<>();
+    private final EffectProfile effects;
+    // Shared state is concurrent so that Folia regions can handle different altars in parallel.
+    private final Map<String, Altar> altars = new ConcurrentSkipListMap<>();
+    private final Set<String> dirtyAltars = ConcurrentHashMap.newKeySet();
+    // Items lying on pedestals, kept for parked altars too; the display entities only exist while the altar is active.
+    private final Map<Location, ItemStack> placedItems = new ConcurrentHashMap<>();
+    private final Map<Location, Item> placedItemsDisplay = new ConcurrentHashMap<>();
+    // Activation items of rituals stopped by parking, dropped at the center once the altar is active again.
+    private final Map<Altar, ItemStack> refundedItems = new ConcurrentHashMap<>();
+    private final Map<Location, UUID> itemPlacers = new ConcurrentHashMap<>();
+    private final AltarScheduler scheduler;
+    private AltarScheduler.Task readyEffectTask;
+    private int readyEffectRuns;
+    private final ParticleBudget particleBudget;
+    private final EffectEngine effectEngine;
+    private final FloatingItemRenderer floatingItems;
+    private final RitualTicker ritualTicker;
+    private final BurstPatterns burstPatterns;
+    private final QualityController qualityController;
+    private final TimingHistogram clickTiming;
+    private final TimingHistogram readyTiming;
+    private final Map<Location, EffectEngine.Emitter> pedestalEmitters = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<Long, AltarBlock>> blockIndex = new ConcurrentHashMap<>();
+    // Number of indexed altar blocks per chunk, used to skip explosions far away from any altar.
+    private final Map<String, Map<Long, Integer>> altarChunks = new ConcurrentHashMap<>();
+    private final Map<Altar, SummoningRitual> summoningRituals = new ConcurrentHashMap<>();
+    // Altars whose blocks are all in loaded chunks; only these run effects and keep display items spawned.
+    private final Set<Altar> activeAltars = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> summonCounts = new ConcurrentHashMap<>();
 
     public AltarManager(VtAlters plugin) {
         this.plugin = plugin;
         this.lang = plugin.getLanguageManager();
+        this.scheduler = plugin.getAltarScheduler();
+        this.clickTiming = plugin.getTimings().get("altar.block-click");
+        this.readyTiming = plugin.getTimings().get("effects.ready-particles");
+        this.effects = EffectProfile.load(plugin);
+        this.particleBudget = new ParticleBudget(plugin, effects);
+        this.floatingItems = FloatingItemRenderer.create(plugin, effects);
+        this.ritualTicker = new RitualTicker(plugin);
+        this.burstPatterns = new BurstPatterns(effects.getConvergenceBurstPoints(), 0.4);
+        this.effectEngine = new EffectEngine(plugin, effects, particleBudget);
+        this.qualityController = new QualityController(plugin, effects, particleBudget, effectEngine);
         loadAltars();
+        particleBudget.start();
+        effectEngine.start();
+        qualityController.start();
         startReadyAltarEffectTask();
     }
 
-    @SuppressWarnings("unchecked")
     public void loadAltars() {
-        altarMap.clear();
-        allAltarBlocks.clear();
+        FlightEvents.AltarReload event = new FlightEvents.AltarReload();
+        event.begin();
+        altars.clear();
+        dirtyAltars.clear();
+        blockIndex.clear();
+        altarChunks.clear();
+        activeAltars.clear();
+
+        for (Map.Entry<String, ConfigurationSection> record : plugin.getAltarStore().loadAll().entrySet()) {
+            Altar altar = AltarSerializer.read(plugin, record.getKey(), record.getValue());
+            altars.put(altar.getName(), altar);
+            indexAltar(altar);
+        }
+        for (World world : Bukkit.getWorlds()) {
+            onWorldLoad(world);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.altars = altars.size();
+            event.storage = plugin.getAltarStore().getType();
+            event.commit();
+        }
+    }
 
-        ConfigurationSection altarsSection = plugin.getDataManager().getConfig().getConfigurationSection("altars");
-        if (altarsSection == null) {
-            return;
+    public void onWorldLoad(World world) {
+        for (Altar altar : altars.values()) {
+            if (altar.getCenter() == null || !altar.getCenter().isIn(world)) continue;
+            altar.bindWorld(world);
+            updateActivity(altar);
         }
+    }
 
-        for (String altarName : altarsSection.getKeys(false)) {
-            ConfigurationSection currentAltarSection = altarsSection.getConfigurationSection(altarName);
-            if (currentAltarSection == null) continue;
+    public void onWorldUnload(World world) {
+        for (Altar altar : altars.values()) {
+            if (altar.getWorld() != world) continue;
+            if (activeAltars.contains(altar)) parkAltar(altar);
+            altar.unbindWorld();
+        }
+    }
 
-            Altar altar = new Altar(altarName);
-            Location centerLocation = Altar.locationFromString(currentAltarSection.getString("center"));
-            if (centerLocation == null && !Objects.equals(currentAltarSection.getString("center", "not_set"), "not_set")) {
-                plugin.getErrorHandler().logError("Invalid center location for altar '" + altarName + "' in altars.yml. It might be a typo or a world that no longer exists.", "Altar Data Error");
+    public void onChunkLoad(Chunk chunk) {
+        if (!hasAltarBlocks(chunk)) return;
+        long chunkKey = BlockKey.chunk(chunk.getX(), chunk.getZ());
+        for (Altar altar : altars.values()) {
+            if (altar.getWorld() == chunk.getWorld() && !activeAltars.contains(altar) && touchesChunk(altar, chunkKey)) {
+                updateActivity(altar);
             }
-            altar.setCenterLocation(centerLocation);
-            if (centerLocation != null) {
-                allAltarBlocks.add(centerLocation.getBlock().getLocation());
+        }
+    }
+
+    public void onChunkUnload(Chunk chunk) {
+        if (!hasAltarBlocks(chunk)) return;
+        long chunkKey = BlockKey.chunk(chunk.getX(), chunk.getZ());
+        for (Altar altar : new ArrayList<>(activeAltars)) {
+            if (altar.getWorld() == chunk.getWorld() && touchesChunk(altar, chunkKey)) {
+                parkAltar(altar);
             }
+        }
+    }
+
+    private boolean hasAltarBlocks(Chunk chunk) {
+        Map<Long, Integer> worldChunks = altarChunks.get(chunk.getWorld().getName());
+        return worldChunks != null && worldChunks.containsKey(BlockKey.chunk(chunk.getX(), chunk.getZ()));
+    }
 
-            altar.setBossName(currentAltarSection.getString("boss-name", "DefaultBoss"));
+    private boolean touchesChunk(Altar altar, long chunkKey) {
+        BlockPos center = altar.getCenter();
+        if (center == null) return false;
+        if (BlockKey.chunkOf(center.getX(), center.getZ()) == chunkKey) return true;
+        for (BlockPos pedestal : altar.getPedestals()) {
+            if (BlockKey.chunkOf(pedestal.getX(), pedestal.getZ()) == chunkKey) return true;
+        }
+        return false;
+    }
 
-            if (currentAltarSection.isConfigurationSection("central-item")) {
-                try {
-                    altar.setCentralItem(ItemStack.deserialize(currentAltarSection.getConfigurationSection("central-item").getValues(true)));
-                } catch (Exception e) {
-                    plugin.getErrorHandler().logError("Failed to deserialize central-item for altar '" + altarName + "'. Check altars.yml. Error: " + e.getMessage(), "Altar Data Error");
-                }
+    private boolean isLoaded(Altar altar) {
+        World world = altar.getWorld();
+        BlockPos center = altar.getCenter();
+        if (world == null || center == null || !world.isChunkLoaded(center.getX() >> 4, center.getZ() >> 4)) return false;
+        for (BlockPos pedestal : altar.getPedestals()) {
+            if (!world.isChunkLoaded(pedestal.getX() >> 4, pedestal.getZ() >> 4)) return false;
+        }
+        return true;
+    }
+
+    /** Resumes or parks the altar depending on whether all of its chunks are loaded. */
+    private void updateActivity(Altar altar) {
+        boolean loaded = isLoaded(altar);
+        if (loaded && !activeAltars.contains(altar)) {
+            resumeAltar(altar);
+        } else if (!loaded && activeAltars.contains(altar)) {
+            parkAltar(altar);
+        }
+    }
+
+    private void resumeAltar(Altar altar) {
+        activeAltars.add(altar);
+        ItemStack refund = refundedItems.remove(altar);
+        if (refund != null) {
+            Location center = altar.getCenterLocation();
+            center.getWorld().dropItemNaturally(center.clone().add(0.5, 1.0, 0.5), refund);
+        }
+        for (Location pedestal : altar.getPedestalLocations()) {
+            ItemStack placed = placedItems.get(pedestal);
+            if (placed != null && !placedItemsDisplay.containsKey(pedestal)) {
+                placedItemsDisplay.put(pedestal, spawnPlacedItem(pedestal, placed));
             }
+        }
+        refreshPlacedItems(altar);
+    }
 
-            Map<ItemStack, Integer> requiredItems = new HashMap<>();
-            List<Map<?, ?>> itemsList = currentAltarSection.getMapList("required-items");
-            for (Map<?, ?> itemMap : itemsList) {
-                if (itemMap.containsKey("item") && itemMap.containsKey("amount")) {
-                    try {
-                        ItemStack item = ItemStack.deserialize((Map<String, Object>) itemMap.get("item"));
-                        int amount = (Integer) itemMap.get("amount");
-
-                        Optional<ItemStack> existingKey = requiredItems.keySet().stream().filter(k -> k.isSimilar(item)).findFirst();
-                        if (existingKey.isPresent()) {
-                            requiredItems.put(existingKey.get(), requiredItems.get(existingKey.get()) + amount);
-                        } else {
-                            requiredItems.put(item, amount);
-                        }
-                    } catch (Exception e) {
-                        plugin.getErrorHandler().logError("Failed to deserialize a required-item for altar '" + altarName + "'. Check altars.yml. Error: " + e.getMessage(), "Altar Data Error");
-                    }
-                }
+    private void parkAltar(Altar altar) {
+        activeAltars.remove(altar);
+        SummoningRitual ritual = summoningRituals.get(altar);
+        if (ritual != null) {
+            ritual.abort();
+        }
+        for (Location pedestal : altar.getPedestalLocations()) {
+            stopPeripheralParticle(pedestal);
+            Item placedItem = placedItemsDisplay.remove(pedestal);
+            if (placedItem != null && placedItem.isValid()) {
+                placedItem.remove();
+            }
+        }
+        altar.resetPlacedItems();
+        effectEngine.release(altar);
+    }
+
+    public Altar getAltar(String name) {
+        return altars.get(name);
+    }
+
+    public Set<String> getAltarNames() {
+        return Collections.unmodifiableSet(altars.keySet());
+    }
+
+    public QualityController getQualityController() { return qualityController; }
+    public ParticleBudget getParticleBudget() { return particleBudget; }
+    public EffectEngine getEffectEngine() { return effectEngine; }
+    public RitualTicker getRitualTicker() { return ritualTicker; }
+    public int getAltarCount() { return altars.size(); }
+    public int getActiveAltarCount() { return activeAltars.size(); }
+
+    /** Items lying on pedestals, including those of parked altars. */
+    public int getPlacedItemCount() { return placedItems.size(); }
+
+    /** Bosses summoned since the plugin was (re)loaded, by boss name. */
+    public Map<String, LongAdder> getSummonCounts() { return Collections.unmodifiableMap(summonCounts); }
+
+    public Altar createAltar(String name) {
+        Altar altar = new Altar(name);
+        altar.setBossName("DefaultBoss");
+        altars.put(name, altar);
+        markDirty(name);
+        return altar;
+    }
+
+    public void deleteAltar(Altar altar) {
+        unindexAltar(altar);
+        altars.remove(altar.getName());
+        markDirty(altar.getName());
+        editAltar(altar, () -> {
+            altar.getPedestalLocations().forEach(this::ejectPlacedItem);
+            ItemStack refund = refundedItems.remove(altar);
+            Location center = altar.getCenterLocation();
+            if (refund != null && center != null && center.getWorld() != null) {
+                center.getWorld().dropItemNaturally(center.clone().add(0.5, 1.0, 0.5), refund);
+            }
+            effectEngine.release(altar);
+            activeAltars.remove(altar);
+        });
+    }
+
+    public void setCenter(Altar altar, Location center) {
+        editAltar(altar, () -> {
+            unindexAltar(altar);
+            if (altar.getCenter() != null && !altar.getCenter().isIn(center.getWorld())) {
+                altar.getPedestalLocations().forEach(this::ejectPlacedItem);
+            }
+            // Rings hold on to the old viewer set; refreshPlacedItems restarts them against the new centre.
+            altar.getPedestalLocations().forEach(this::stopPeripheralParticle);
+            effectEngine.release(altar);
+            altar.setCenter(BlockPos.of(center));
+            altar.bindWorld(center.getWorld());
+            indexAltar(altar);
+            markDirty(altar.getName());
+            scheduler.runAt(center, () -> {
+                updateActivity(altar);
+                refreshPlacedItems(altar);
+            });
+        });
+    }
+
+    public void setBossName(Altar altar, String bossName) {
+        altar.setBossName(bossName);
+        markDirty(altar.getName());
+    }
+
+    public void setCentralItem(Altar altar, ItemStack centralItem) {
+        altar.setCentralItem(centralItem);
+        markDirty(altar.getName());
+    }
+
+    public void addPedestal(Altar altar, Location pedestal) {
+        editAltar(altar, () -> {
+            BlockPos pos = BlockPos.of(pedestal);
+            altar.addPedestal(pos);
+            indexBlock(pos, new AltarBlock(altar, AltarBlock.Role.PEDESTAL), false);
+            updateActivity(altar);
+            markDirty(altar.getName());
+        });
+    }
+
+    public void removePedestal(Altar altar, Location pedestal) {
+        editAltar(altar, () -> {
+            BlockPos pos = BlockPos.of(pedestal);
+            unindexBlock(pos, altar);
+            ejectPlacedItem(pedestal);
+            altar.removePedestal(pos);
+            refreshPlacedItems(altar);
+            markDirty(altar.getName());
+        });
+    }
+
+    public void clearPedestals(Altar altar) {
+        editAltar(altar, () -> {
+            for (BlockPos pedestal : altar.getPedestals()) {
+                unindexBlock(pedestal, altar);
             }
+            altar.getPedestalLocations().forEach(this::ejectPlacedItem);
+            altar.clearPedestals();
+            altar.resetPlacedItems();
+            markDirty(altar.getName());
+        });
+    }
+
+    public void addRequiredItem(Altar altar, ItemStack template, int amount) {
+        editAltar(altar, () -> {
+            Map<ItemStack, Integer> requiredItems = new HashMap<>(altar.getRequiredItems());
+            ItemStack existingKey = altar.getRequiredKey(template);
+            requiredItems.merge(existingKey != null ? existingKey : template, amount, Integer::sum);
             altar.setRequiredItems(requiredItems);
+            refreshPlacedItems(altar);
+            markDirty(altar.getName());
+        });
+    }
 
-            List<Location> pedestalLocations = new ArrayList<>();
-            for (String locString : currentAltarSection.getStringList("pedestal-locations")) {
-                Location loc = Altar.locationFromString(locString);
-                if (loc != null) {
-                    pedestalLocations.add(loc);
-                    allAltarBlocks.add(loc.getBlock().getLocation());
-                } else {
-                    plugin.getErrorHandler().logError("Invalid pedestal location '" + locString + "' for altar '" + altarName + "' in altars.yml.", "Altar Data Error");
-                }
+    /** Must run inside {@link #editAltar}; returns false if the altar does not require a matching item. */
+    public boolean removeRequiredItem(Altar altar, ItemStack item) {
+        ItemStack existingKey = altar.getRequiredKey(item);
+        if (existingKey == null) return false;
+        Map<ItemStack, Integer> requiredItems = new HashMap<>(altar.getRequiredItems());
+        requiredItems.remove(existingKey);
+        altar.setRequiredItems(requiredItems);
+        refreshPlacedItems(altar);
+        markDirty(altar.getName());
+        return true;
+    }
+
+    public void clearRequiredItems(Altar altar) {
+        editAltar(altar, () -> {
+            altar.setRequiredItems(new HashMap<>());
+            refreshPlacedItems(altar);
+            markDirty(altar.getName());
+        });
+    }
+
+    /**
+     * Runs an edit on the thread that owns the altar's center. The altar's pedestals, required items, pedestal items
+     * and placed item counters are only read and changed there, so on Folia a command never races the altar's own
+     * region. Commands run their checks and send their feedback from inside the edit.
+     */
+    public void editAltar(Altar altar, Runnable edit) {
+        Location center = altar.getCenterLocation();
+        if (center != null && center.getWorld() != null) {
+            scheduler.runAt(center, edit);
+        } else {
+            edit.run();
+        }
+    }
+
+    private void markDirty(String altarName) {
+        dirtyAltars.add(altarName);
+        saveDirtyAltars();
+    }
+
+    public void saveDirtyAltars() {
+        if (dirtyAltars.isEmpty()) return;
+        AltarStore store = plugin.getAltarStore();
+        for (Iterator<String> it = dirtyAltars.iterator(); it.hasNext(); ) {
+            String altarName = it.next();
+            it.remove();
+            FlightEvents.AltarSerialize event = new FlightEvents.AltarSerialize();
+            event.begin();
+            Altar altar = altars.get(altarName);
+            if (altar != null) {
+                YamlConfiguration data = new YamlConfiguration();
+                AltarSerializer.write(data, altar);
+                store.save(altarName, data);
+            } else {
+                store.delete(altarName);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.altar = altarName;
+                event.storage = store.getType();
+                event.commit();
             }
-            altar.setPedestalLocations(pedestalLocations);
+        }
+    }
 
-            if (altar.getCenterLocation() != null) {
-                altarMap.put(altar.getCenterLocation().getBlock().getLocation(), altar);
+    private void refreshPlacedItems(Altar altar) {
+        altar.resetPlacedItems();
+        if (!activeAltars.contains(altar)) return;
+        for (Location pedestal : altar.getPedestalLocations()) {
+            ItemStack placed = placedItems.get(pedestal);
+            if (placed == null) continue;
+            if (altar.addPlacedItem(placed)) {
+                if (!pedestalEmitters.containsKey(pedestal)) {
+                    startPeripheralParticle(altar, pedestal);
+                }
+            } else {
+                stopPeripheralParticle(pedestal);
             }
         }
     }
 
-    private void placeItem(Player player, Location loc, ItemStack item) {
+    private void ejectPlacedItem(Location pedestal) {
+        Item placedItem = placedItemsDisplay.remove(pedestal);
+        ItemStack stack = placedItems.remove(pedestal);
+        itemPlacers.remove(pedestal);
+        stopPeripheralParticle(pedestal);
+        if (placedItem != null && placedItem.isValid()) {
+            placedItem.remove();
+        }
+        if (stack != null && pedestal.getWorld() != null) {
+            pedestal.getWorld().dropItemNaturally(pedestal.clone().add(0.5, 1.0, 0.5), stack);
+        }
+    }
+
+    private Item spawnPlacedItem(Location blockLocation, ItemStack stack) {
+        Location displayLoc = blockLocation.clone().add(0.5, effects.getPedestalHeight() - 0.2, 0.5);
+        Item droppedItem = blockLocation.getWorld().dropItem(displayLoc, stack);
+        droppedItem.setPickupDelay(Integer.MAX_VALUE);
+        droppedItem.setGravity(false);
+        droppedItem.setVelocity(new Vector(0, 0, 0));
+        // Entities unload separately from chunks, so the display is never saved; resumeAltar respawns it from placedItems.
+        droppedItem.setPersistent(false);
+        return droppedItem;
+    }
+
+    private static Location toBlockLocation(Location loc) {
+        return new Location(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    private void indexAltar(Altar altar) {
+        for (BlockPos pedestal : altar.getPedestals()) {
+            indexBlock(pedestal, new AltarBlock(altar, AltarBlock.Role.PEDESTAL), false);
+        }
+        indexBlock(altar.getCenter(), new AltarBlock(altar, AltarBlock.Role.CENTER), true);
+    }
+
+    private void indexBlock(BlockPos pos, AltarBlock altarBlock, boolean replace) {
+        if (pos == null) return;
+        String worldName = pos.getWorldName();
+        Map<Long, AltarBlock> worldIndex = blockIndex.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
+        long key = pos.getKey();
+        AltarBlock previous = replace ? worldIndex.put(key, altarBlock) : worldIndex.putIfAbsent(key, altarBlock);
+        if (previous == null) {
+            altarChunks.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>())
+                    .merge(BlockKey.chunkOf(pos.getX(), pos.getZ()), 1, Integer::sum);
+        }
+    }
+
+    private void unindexAltar(Altar altar) {
+        for (BlockPos pedestal : altar.getPedestals()) {
+            unindexBlock(pedestal, altar);
+        }
+        unindexBlock(altar.getCenter(), altar);
+    }
+
+    private void unindexBlock(BlockPos pos, Altar altar) {
+        if (pos == null) return;
+        String worldName = pos.getWorldName();
+        Map<Long, AltarBlock> worldIndex = blockIndex.get(worldName);
+        if (worldIndex == null) return;
+        long key = pos.getKey();
+        AltarBlock existing = worldIndex.get(key);
+        if (existing == null || existing.getAltar() != altar) return;
+        worldIndex.remove(key);
+        Map<Long, Integer> worldChunks = altarChunks.get(worldName);
+        if (worldChunks != null) {
+            worldChunks.computeIfPresent(BlockKey.chunkOf(pos.getX(), pos.getZ()), (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void placeItem(Player player, Altar altar, Location loc, ItemStack item) {
+        FlightEvents.PedestalItem event = new FlightEvents.PedestalItem();
+        event.begin();
         Location blockLocation = loc.getBlock().getLocation();
-        double pedestalHeight = plugin.getConfig().getDouble("effects.heights.pedestal", 1.2);
-        Location displayLoc = blockLocation.clone().add(0.5, pedestalHeight - 0.2, 0.5);
         ItemStack singleItem = item.clone();
         singleItem.setAmount(1);
 
-        if (placedItemsDisplay.containsKey(blockLocation)) {
-            retrieveItem(player, blockLocation);
+        if (placedItems.containsKey(blockLocation)) {
+            retrieveItem(player, altar, blockLocation);
         }
 
-        Item droppedItem = blockLocation.getWorld().dropItem(displayLoc, singleItem);
-        droppedItem.setPickupDelay(Integer.MAX_VALUE);
-        droppedItem.setGravity(false);
-        droppedItem.setVelocity(new Vector(0, 0, 0));
-        placedItemsDisplay.put(blockLocation, droppedItem);
+        placedItems.put(blockLocation, singleItem);
+        placedItemsDisplay.put(blockLocation, spawnPlacedItem(blockLocation, singleItem));
         itemPlacers.put(blockLocation, player.getUniqueId());
 
-        Altar altar = getAltarAt(loc);
-        if (altar != null) {
-            boolean isRequired = altar.getRequiredItems().keySet().stream()
-                                      .anyMatch(requiredItem -> requiredItem.isSimilar(item));
-            if (isRequired) {
-                startPeripheralParticle(loc);
-            }
+        if (altar.addPlacedItem(singleItem)) {
+            startPeripheralParticle(altar, loc);
         }
 
         player.getInventory().getItemInMainHand().setAmount(item.getAmount() - 1);
         loc.getWorld().playSound(loc, Sound.BLOCK_END_PORTAL_FRAME_FILL, 1f, 1f);
+        commitPedestalItem(event, altar, "place", singleItem);
     }
 
-    private void retrieveItem(Player player, Location loc) {
+    private void retrieveItem(Player player, Altar altar, Location loc) {
+        FlightEvents.PedestalItem event = new FlightEvents.PedestalItem();
+        event.begin();
         Location blockLocation = loc.getBlock().getLocation();
-        Item droppedItem = placedItemsDisplay.get(blockLocation);
-        if (droppedItem == null) return;
+        ItemStack item = placedItems.get(blockLocation);
+        if (item == null) return;
         
         boolean preventTheft = plugin.getConfig().getBoolean("altar.prevent-item-theft", true);
         if (preventTheft && itemPlacers.containsKey(blockLocation)) {
@@ -167,317 +519,362 @@ public class AltarManager {
             }
         }
 
-        ItemStack item = droppedItem.getItemStack();
-        if (player != null && item != null) {
+        if (player != null) {
             player.getInventory().addItem(item);
         }
-        
-        droppedItem.remove();
-        placedItemsDisplay.remove(blockLocation);
+        altar.removePlacedItem(item);
+
+        Item droppedItem = placedItemsDisplay.remove(blockLocation);
+        if (droppedItem != null) {
+            droppedItem.remove();
+        }
+        placedItems.remove(blockLocation);
         itemPlacers.remove(blockLocation);
         stopPeripheralParticle(blockLocation);
         loc.getWorld().playSound(loc, Sound.ENTITY_ITEM_PICKUP, 1f, 1f);
+        commitPedestalItem(event, altar, "retrieve", item);
     }
 
-    private void startPeripheralParticle(Location loc) {
-        Location blockLocation = loc.getBlock().getLocation();
+    private static void commitPedestalItem(FlightEvents.PedestalItem event, Altar altar, String action, ItemStack item) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.altar = altar.getName();
+            event.action = action;
+            event.item = item != null ? item.getType().name() : null;
+            event.commit();
+        }
+    }
+
+    private void startPeripheralParticle(Altar altar, Location loc) {
+        Location blockLocation = toBlockLocation(loc);
         stopPeripheralParticle(blockLocation);
-        
-        double pedestalHeight = plugin.getConfig().getDouble("effects.heights.pedestal", 1.2);
-        
-        Particle particle = getParticle("effects.particles.pedestal-ready", "END_ROD");
+
+        Particle particle = effects.getPedestalReadyParticle();
         if (particle == null) return;
-        
-        BukkitTask task = new BukkitRunnable() {
-            private double angle = 0;
-            private final double radius = 0.8;
-
-            @Override
-            public void run() {
-                angle += Math.PI / 16;
-                double x = radius * Math.cos(angle);
-                double z = radius * Math.sin(angle);
-                Location particleLoc = blockLocation.clone().add(0.5 + x, pedestalHeight, 0.5 + z);
-                loc.getWorld().spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
-        peripheralParticleTasks.put(blockLocation, task);
+        EffectEngine.Emitter emitter = effectEngine.addRing(altar, blockLocation, effects.getPedestalHeight(), particle);
+        if (emitter != null) {
+            pedestalEmitters.put(blockLocation, emitter);
+        }
     }
 
     private void stopPeripheralParticle(Location loc) {
-        Location blockLocation = loc.getBlock().getLocation();
-        if (peripheralParticleTasks.containsKey(blockLocation)) {
-            peripheralParticleTasks.get(blockLocation).cancel();
-            peripheralParticleTasks.remove(blockLocation);
-        }
+        effectEngine.remove(pedestalEmitters.remove(toBlockLocation(loc)));
     }
 
     private void startReadyAltarEffectTask() {
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                Particle centralParticle = getParticle("effects.particles.altar-ready", "SOUL_FIRE_FLAME");
-                if (centralParticle == null) {
-                    this.cancel();
-                    return;
-                }
-                double readyHeight = plugin.getConfig().getDouble("effects.heights.ready-particle", 1.2);
-                for (Altar altar : altarMap.values()) {
-                    if (isAltarReady(altar) && !summoningAltars.contains(altar)) {
-                        Location center = altar.getCenterLocation();
-                        if (center != null) {
-                            center.getWorld().spawnParticle(centralParticle, center.clone().add(0.5, readyHeight, 0.5), 5, 0.3, 0.3, 0.3, 0.01);
-                        }
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-        activeTasks.add(task);
-    }
-
-    private void spawnSummoningRings(Location center) {
-        Particle ringParticle = getParticle("effects.particles.ritual-ring", "SOUL_FIRE_FLAME");
-        if (ringParticle == null) return;
-        
-        Location itemCenter = center.clone().add(0.5, 1.0, 0.5);
-        double ringYOffset = plugin.getConfig().getDouble("effects.heights.ritual-ring-offset", 0.0);
-        
-        double radius = 0.8;
-        int durationTicks = 40;
-
-        final Vector x_axis = new Vector(1, 0, 0);
-        final Vector y_axis = new Vector(0, 1, 0);
-        final Vector z_axis = new Vector(0, 0, 1);
-
-        final double system_rotation_angle = Math.PI / 4.0;
-        final double cos_sys = Math.cos(system_rotation_angle);
-        final double sin_sys = Math.sin(system_rotation_angle);
-
-        BukkitTask animationTask = new BukkitRunnable() {
-            private int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks > durationTicks) {
-                    this.cancel();
-                    return;
-                }
-
-                Location particleCenter = itemCenter.clone().add(0, ringYOffset, 0);
-                double particle_flow_angle = (double) ticks / 20.0 * 2 * Math.PI; 
-
-                if (ticks % 25 == 0) {
-                    playSoundFromConfig(particleCenter, "effects.sounds.ritual-ambient-loop");
-                }
-
-                for (double t = 0; t < 2 * Math.PI; t += Math.PI / 16) {
-                    double cos_t = Math.cos(t + particle_flow_angle);
-                    double sin_t = Math.sin(t + particle_flow_angle);
-
-                    Vector p1 = x_axis.clone().multiply(radius * cos_t).add(y_axis.clone().multiply(radius * sin_t));
-                    Vector p2 = z_axis.clone().multiply(radius * cos_t).add(y_axis.clone().multiply(radius * sin_t));
-
-                    double p1x_rot = p1.getX() * cos_sys - p1.getZ() * sin_sys;
-                    double p1z_rot = p1.getX() * sin_sys + p1.getZ() * cos_sys;
-                    p1.setX(p1x_rot);
-                    p1.setZ(p1z_rot);
-
-                    double p2x_rot = p2.getX() * cos_sys - p2.getZ() * sin_sys;
-                    double p2z_rot = p2.getX() * sin_sys + p2.getZ() * cos_sys;
-                    p2.setX(p2x_rot);
-                    p2.setZ(p2z_rot);
-
-                    particleCenter.getWorld().spawnParticle(ringParticle, particleCenter.clone().add(p1), 1, 0, 0, 0, 0);
-                    particleCenter.getWorld().spawnParticle(ringParticle, particleCenter.clone().add(p2), 1, 0, 0, 0, 0);
+        Particle centralParticle = effects.getAltarReadyParticle();
+        if (centralParticle == null) return;
+        readyEffectTask = scheduler.runTimer(() -> {
+            if (readyEffectRuns++ % qualityController.getTier().getInterval() != 0) return;
+            for (Altar altar : activeAltars) {
+                if (!altar.isReady() || summoningRituals.containsKey(altar)) continue;
+                Location center = altar.getCenterLocation();
+                if (center != null) {
+                    scheduler.runAt(center, () -> spawnReadyParticle(altar, centralParticle));
                 }
-                ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
-        
-        activeTasks.add(animationTask);
+        }, 0L, 20L);
     }
 
-    private ArmorStand createVisualArmorStand(Location loc, ItemStack stack) {
-        return loc.getWorld().spawn(loc, ArmorStand.class, armorStand -> {
-            armorStand.setGravity(false);
-            armorStand.setMarker(true);
-            armorStand.setVisible(false);
-            armorStand.setSmall(true);
-            if (armorStand.getEquipment() != null) {
-                armorStand.getEquipment().setHelmet(stack.clone());
+    private void spawnReadyParticle(Altar altar, Particle centralParticle) {
+        long start = System.nanoTime();
+        Location center = altar.getCenterLocation();
+        ParticleViewers viewers = effectEngine.getViewers(altar);
+        if (center != null && viewers != null && !viewers.isEmpty()) {
+            int count = particleBudget.request(5);
+            if (count > 0) {
+                double readyHeight = effects.getReadyParticleHeight();
+                viewers.spawn(centralParticle, center.getX() + 0.5, center.getY() + readyHeight, center.getZ() + 0.5, count, 0.3, 0.3, 0.3, 0.01);
             }
-        });
+        }
+        readyTiming.recordSince(start);
     }
 
     private void startSummoningAnimation(Altar altar, Player player, ItemStack centralItem) {
         Location center = altar.getCenterLocation();
-        if (center == null || center.getWorld() == null) return;
+        ParticleViewers viewers = effectEngine.getViewers(altar);
+        if (center == null || viewers == null) return;
 
-        summoningAltars.add(altar);
         lang.sendMessage(player, "altar-interaction.ritual-start");
-        playSoundFromConfig(center, "effects.sounds.ritual-start");
-        
-        spawnSummoningRings(center);
-        
-        Location finalConvergencePoint = center.clone().add(0.5, 5, 0.5);
-        Location orbitPoint = center.clone().add(0.5, 4, 0.5);
-        double orbitRadius = 2.0;
-
-        List<Item> ceremonyItems = new ArrayList<>(placedItemsDisplay.values());
-        placedItemsDisplay.clear();
-        itemPlacers.clear();
+        playSound(center, effects.getRitualStartSound());
+
+        List<Item> ceremonyItems = new ArrayList<>();
+        Map<Location, ItemStack> offerings = new HashMap<>();
+        Map<Location, UUID> placers = new HashMap<>();
+        for (Location pedestal : altar.getPedestalLocations()) {
+            Item placedItem = placedItemsDisplay.remove(pedestal);
+            ItemStack placed = placedItems.remove(pedestal);
+            UUID placer = itemPlacers.remove(pedestal);
+            if (placedItem != null) {
+                ceremonyItems.add(placedItem);
+            }
+            if (placed != null) {
+                offerings.put(pedestal, placed);
+            }
+            if (placer != null) {
+                placers.put(pedestal, placer);
+            }
+            stopPeripheralParticle(pedestal);
+        }
+        altar.resetPlacedItems();
 
-        altar.getPedestalLocations().stream()
-            .filter(Objects::nonNull)
-            .forEach(this::stopPeripheralParticle);
-        
         Item centerDisplayItem = center.getWorld().dropItem(center.clone().add(0.5, 1.0, 0.5), centralItem);
         centerDisplayItem.setPickupDelay(Integer.MAX_VALUE);
         centerDisplayItem.setGravity(false);
         centerDisplayItem.setVelocity(new Vector(0, 0, 0));
+        centerDisplayItem.setPersistent(false);
         ceremonyItems.add(centerDisplayItem);
 
-        new BukkitRunnable() {
-            private final long PRE_ANIMATION_DELAY = 40L;
-            private final long SPIRAL_TO_ORBIT_DURATION = 14L;
-            private final long ORBIT_HOLD_DURATION = 60L;
-            private final long CONVERGE_DURATION = 5L;
-
-            private long ticks = 0;
-            private boolean hasFinished = false;
-            private Map<ArmorStand, Location> flyingEntities = null;
-            private Map<ArmorStand, Location> orbitLocations = null;
-
-            @Override
-            public void run() {
-                if (hasFinished) {
-                    this.cancel();
-                    return;
-                }
+        SummoningRitual ritual = new SummoningRitual(altar, player, center, viewers, ceremonyItems, offerings, placers, centralItem);
+        summoningRituals.put(altar, ritual);
+        ritualTicker.start(ritual, center);
+    }
 
-                if (ticks < PRE_ANIMATION_DELAY) {
-                    if (ticks == 0) center.getWorld().playSound(center, Sound.ENTITY_EVOKER_PREPARE_SUMMON, 1.0f, 1.0f);
-                    ticks++;
-                    return;
-                }
+    /** One summoning animation, advanced by the shared {@link RitualTicker} along the configured {@link RitualTimeline}. */
+    private final class SummoningRitual implements RitualTicker.Ritual {
+        private final Altar altar;
+        private final Player player;
+        private final Location center;
+        private final ParticleViewers viewers;
+        private final List<Item> ceremonyItems;
+        private final Map<Location, ItemStack> offerings;
+        private final Map<Location, UUID> placers;
+        private final ItemStack centralItem;
+        private final RitualTimeline timeline = effects.getRitualTimeline();
+        private final Location finalConvergencePoint;
+        private final Location orbitPoint;
+        private final double orbitRadius = 2.0;
+        private final double ringX;
+        private final double ringY;
+        private final double ringZ;
+
+        private int ticks = 0;
+        private boolean finished = false;
+        private volatile boolean cancelled = false;
+        private int currentStage = -1;
+        private FlightEvents.RitualStage stageEvent;
+        private Map<FloatingItem, Location> flyingEntities = null;
+        private Map<FloatingItem, Location> orbitLocations = null;
+
+        private SummoningRitual(Altar altar, Player player, Location center, ParticleViewers viewers, List<Item> ceremonyItems,
+                                Map<Location, ItemStack> offerings, Map<Location, UUID> placers, ItemStack centralItem) {
+            this.altar = altar;
+            this.player = player;
+            this.center = center;
+            this.viewers = viewers;
+            this.ceremonyItems = ceremonyItems;
+            this.offerings = offerings;
+            this.placers = placers;
+            this.centralItem = centralItem;
+            this.finalConvergencePoint = center.clone().add(0.5, 5, 0.5);
+            this.orbitPoint = center.clone().add(0.5, 4, 0.5);
+            this.ringX = center.getX() + 0.5;
+            this.ringY = center.getY() + 1.0 + effects.getRitualRingOffset();
+            this.ringZ = center.getZ() + 0.5;
+        }
 
-                if (flyingEntities == null) {
-                    playSoundFromConfig(center, "effects.sounds.ritual-items-fly");
-                    flyingEntities = new HashMap<>();
-                    orbitLocations = new HashMap<>();
-                    int i = 0;
-                    double angleIncrement = 360.0 / ceremonyItems.size();
-
-                    for (Item item : ceremonyItems) {
-                        if (item.isValid()) {
-                            Location itemVisualLocation = item.getLocation().clone();
-                            ItemStack stack = item.getItemStack().clone();
-                            Location armorStandSpawnLocation = itemVisualLocation.clone().subtract(0, ARMOR_STAND_HEAD_OFFSET, 0);
-                            
-                            ArmorStand visualArmorStand = createVisualArmorStand(armorStandSpawnLocation, stack);
-                            flyingEntities.put(visualArmorStand, itemVisualLocation);
-
-                            double angle = Math.toRadians(i * angleIncrement);
-                            double x = orbitPoint.getX() + orbitRadius * Math.cos(angle);
-                            double z = orbitPoint.getZ() + orbitRadius * Math.sin(angle);
-                            orbitLocations.put(visualArmorStand, new Location(center.getWorld(), x, orbitPoint.getY(), z));
-                            
-                            item.remove();
-                            i++;
-                        }
-                    }
-                }
+        @Override
+        public boolean tick() {
+            if (cancelled) return false;
+            if (finished) {
+                // Visuals stay at the convergence point for one tick after the boss appears.
+                removeVisuals();
+                summoningRituals.remove(altar, this);
+                return false;
+            }
 
-                long currentStageTicks = ticks - PRE_ANIMATION_DELAY;
-                if (currentStageTicks < SPIRAL_TO_ORBIT_DURATION) {
-                    double progress = (double) currentStageTicks / SPIRAL_TO_ORBIT_DURATION;
-                    for (Map.Entry<ArmorStand, Location> entry : flyingEntities.entrySet()) {
-                        ArmorStand as = entry.getKey();
-                        Location startLoc = entry.getValue();
-                        Location orbitLoc = orbitLocations.get(as);
-                        if (!as.isValid() || orbitLoc == null) continue;
-                        Vector direction = orbitLoc.toVector().subtract(startLoc.toVector());
-                        Location newVisualPos = startLoc.clone().add(direction.multiply(progress));
-                        as.teleport(newVisualPos.clone().subtract(0, ARMOR_STAND_HEAD_OFFSET, 0));
-                        spawnTrailParticles(as, newVisualPos);
+            int stage = timeline.stageAt(ticks);
+            if (stage != currentStage) {
+                enterStage(stage);
+            }
+            switch (stage) {
+                case RitualTimeline.PREPARE:
+                    if (ticks == 0) center.getWorld().playSound(center, Sound.ENTITY_EVOKER_PREPARE_SUMMON, 1.0f, 1.0f);
+                    drawRings();
+                    break;
+                case RitualTimeline.GATHER: {
+                    if (flyingEntities == null) spawnVisuals();
+                    double progress = timeline.progress(stage, ticks);
+                    for (Map.Entry<FloatingItem, Location> entry : flyingEntities.entrySet()) {
+                        FloatingItem visual = entry.getKey();
+                        Location orbitLoc = orbitLocations.get(visual);
+                        if (!visual.isValid() || orbitLoc == null) continue;
+                        moveVisual(visual, entry.getValue(), orbitLoc, progress);
                     }
+                    break;
                 }
-                else if (currentStageTicks < SPIRAL_TO_ORBIT_DURATION + ORBIT_HOLD_DURATION) {
-                    double progress = (double) (currentStageTicks - SPIRAL_TO_ORBIT_DURATION) / ORBIT_HOLD_DURATION;
-                    double angleOffset = progress * 540.0;
+                case RitualTimeline.ORBIT: {
+                    if (flyingEntities == null) spawnVisuals();
+                    double angleOffset = timeline.progress(stage, ticks) * 540.0;
                     int i = 0;
-                    double angleIncrement = 360.0 / flyingEntities.size();
-                    for (ArmorStand as : flyingEntities.keySet()) {
-                        if (!as.isValid()) continue;
-                         double angle = Math.toRadians(i * angleIncrement + angleOffset);
-                         double x = orbitPoint.getX() + orbitRadius * Math.cos(angle);
-                         double z = orbitPoint.getZ() + orbitRadius * Math.sin(angle);
-                        Location newVisualPos = new Location(center.getWorld(), x, orbitPoint.getY(), z);
-                        as.teleport(newVisualPos.clone().subtract(0, ARMOR_STAND_HEAD_OFFSET, 0));
-                        spawnTrailParticles(as, newVisualPos);
+                    double angleIncrement = 360.0 / Math.max(1, flyingEntities.size());
+                    for (FloatingItem visual : flyingEntities.keySet()) {
+                        if (!visual.isValid()) continue;
+                        double angle = Math.toRadians(i * angleIncrement + angleOffset);
+                        double x = orbitPoint.getX() + orbitRadius * Math.cos(angle);
+                        double z = orbitPoint.getZ() + orbitRadius * Math.sin(angle);
+                        visual.moveTo(x, orbitPoint.getY(), z);
+                        spawnTrailParticles(viewers, ticks, x, orbitPoint.getY(), z);
                         i++;
                     }
+                    break;
                 }
-                else if (currentStageTicks < SPIRAL_TO_ORBIT_DURATION + ORBIT_HOLD_DURATION + CONVERGE_DURATION) {
-                    double progress = (double) (currentStageTicks - (SPIRAL_TO_ORBIT_DURATION + ORBIT_HOLD_DURATION)) / CONVERGE_DURATION;
-                    for (Map.Entry<ArmorStand, Location> entry : flyingEntities.entrySet()) {
-                        ArmorStand as = entry.getKey();
-                        Location orbitLoc = orbitLocations.get(as);
-                        if (!as.isValid() || orbitLoc == null) continue;
-                        Vector direction = finalConvergencePoint.toVector().subtract(orbitLoc.toVector());
-                        Location newVisualPos = orbitLoc.clone().add(direction.multiply(progress));
-                        as.teleport(newVisualPos.clone().subtract(0, ARMOR_STAND_HEAD_OFFSET, 0));
-                        spawnTrailParticles(as, newVisualPos);
+                case RitualTimeline.CONVERGE: {
+                    if (flyingEntities == null) spawnVisuals();
+                    double progress = timeline.progress(stage, ticks);
+                    for (Map.Entry<FloatingItem, Location> entry : flyingEntities.entrySet()) {
+                        FloatingItem visual = entry.getKey();
+                        Location orbitLoc = orbitLocations.get(visual);
+                        if (!visual.isValid() || orbitLoc == null) continue;
+                        moveVisual(visual, orbitLoc, finalConvergencePoint, progress);
                     }
+                    break;
                 }
-                else {
-                    if (hasFinished) return;
-                    hasFinished = true;
-
-                    for (ArmorStand as : flyingEntities.keySet()) {
-                        if (as.isValid()) {
-                            as.teleport(finalConvergencePoint.clone().subtract(0, ARMOR_STAND_HEAD_OFFSET, 0));
+                default:
+                    if (flyingEntities == null) spawnVisuals();
+                    for (FloatingItem visual : flyingEntities.keySet()) {
+                        if (visual.isValid()) {
+                            visual.moveTo(finalConvergencePoint.getX(), finalConvergencePoint.getY(), finalConvergencePoint.getZ());
                         }
                     }
-                    spawnConvergenceBurst(finalConvergencePoint);
+                    spawnConvergenceBurst(viewers, finalConvergencePoint);
                     summonBoss(altar, player);
-                    
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            flyingEntities.keySet().forEach(as -> { if (as.isValid()) as.remove(); });
-                            summoningAltars.remove(altar);
-                        }
-                    }.runTaskLater(plugin, 1L);
-                    
-                    this.cancel();
-                    return;
+                    finished = true;
+                    return true;
+            }
+            ticks++;
+            return true;
+        }
+
+        /** Commits the flight recorder event of the stage that just ended and begins one for the next stage. */
+        private void enterStage(int stage) {
+            if (stageEvent != null) {
+                stageEvent.end();
+                if (stageEvent.shouldCommit()) {
+                    stageEvent.altar = altar.getName();
+                    stageEvent.stage = timeline.getStage(currentStage).getName();
+                    stageEvent.ticks = timeline.getStage(currentStage).getDuration();
+                    stageEvent.commit();
+                }
+            }
+            currentStage = stage;
+            stageEvent = null;
+            if (stage >= 0) {
+                stageEvent = new FlightEvents.RitualStage();
+                stageEvent.begin();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            removeVisuals();
+            ceremonyItems.forEach(item -> { if (item.isValid()) item.remove(); });
+            summoningRituals.remove(altar, this);
+        }
+
+        /**
+         * Stops the ritual because its altar is being parked; the ticker drops it on its next run.
+         * Unless the boss already appeared, the offerings go back on their pedestals and the activation item is kept
+         * until the altar resumes. Nothing is spawned here, since the altar's chunks or world may be unloading.
+         */
+        private void abort() {
+            boolean refund = !finished && !cancelled;
+            cancel();
+            if (!refund) return;
+            placedItems.putAll(offerings);
+            itemPlacers.putAll(placers);
+            refundedItems.put(altar, centralItem);
+        }
+
+        private void drawRings() {
+            if (ticks % 25 == 0) {
+                playSound(new Location(center.getWorld(), ringX, ringY, ringZ), effects.getRitualAmbientSound());
+            }
+            Particle ringParticle = effects.getRitualRingParticle();
+            if (ringParticle == null || viewers.isEmpty()) return;
+
+            double[] offsets = RingGeometry.offsets(ticks);
+            int points = RingGeometry.POINTS_PER_RING * 2;
+            int granted = particleBudget.request(points >> particleBudget.getDetailLevel());
+            // Spread whatever was granted evenly over both rings, so a partial grant thins them alike.
+            for (int emitted = 0; emitted < granted; emitted++) {
+                int i = emitted * points / granted * 3;
+                viewers.spawn(ringParticle, ringX + offsets[i], ringY + offsets[i + 1], ringZ + offsets[i + 2], 1, 0, 0, 0, 0);
+            }
+        }
+
+        private void spawnVisuals() {
+            playSound(center, effects.getRitualItemsFlySound());
+            flyingEntities = new HashMap<>();
+            orbitLocations = new HashMap<>();
+            int i = 0;
+            double angleIncrement = 360.0 / ceremonyItems.size();
+
+            for (Item item : ceremonyItems) {
+                if (item.isValid()) {
+                    Location itemVisualLocation = item.getLocation().clone();
+                    ItemStack stack = item.getItemStack().clone();
+
+                    FloatingItem visual = floatingItems.spawn(itemVisualLocation, stack);
+                    flyingEntities.put(visual, itemVisualLocation);
+
+                    double angle = Math.toRadians(i * angleIncrement);
+                    double x = orbitPoint.getX() + orbitRadius * Math.cos(angle);
+                    double z = orbitPoint.getZ() + orbitRadius * Math.sin(angle);
+                    orbitLocations.put(visual, new Location(center.getWorld(), x, orbitPoint.getY(), z));
+
+                    item.remove();
+                    i++;
                 }
-                
-                ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }
+
+        private void moveVisual(FloatingItem visual, Location from, Location to, double progress) {
+            double x = from.getX() + (to.getX() - from.getX()) * progress;
+            double y = from.getY() + (to.getY() - from.getY()) * progress;
+            double z = from.getZ() + (to.getZ() - from.getZ()) * progress;
+            visual.moveTo(x, y, z);
+            spawnTrailParticles(viewers, ticks, x, y, z);
+        }
+
+        private void removeVisuals() {
+            if (flyingEntities == null) return;
+            flyingEntities.keySet().forEach(visual -> { if (visual.isValid()) visual.remove(); });
+            flyingEntities.clear();
+        }
     }
     
-    private void spawnTrailParticles(ArmorStand as, Location visualLocation) {
-        Particle trail1 = getParticle("effects.particles.animation-trail", "ENCHANTMENT_TABLE");
-        Particle trail2 = getParticle("effects.particles.animation-trail-secondary", "END_ROD");
-        if (trail1 != null) {
-            as.getWorld().spawnParticle(trail1, visualLocation.clone().add(0, 0.2, 0), 1, 0.5, 0.5, 0.5, 0);
+    private void spawnTrailParticles(ParticleViewers viewers, int ticks, double x, double y, double z) {
+        if (viewers.isEmpty()) return;
+        Particle trail1 = effects.getTrailParticle();
+        Particle trail2 = effects.getSecondaryTrailParticle();
+        if (trail1 != null && particleBudget.tryAcquire(1)) {
+            viewers.spawn(trail1, x, y + 0.2, z, 1, 0.5, 0.5, 0.5, 0);
         }
-        if (trail2 != null && as.getTicksLived() % 3 == 0) {
-            as.getWorld().spawnParticle(trail2, visualLocation.clone().add(0, 0.2, 0), 1, 0, 0, 0, 0);
+        if (trail2 != null && ticks % 3 == 0 && particleBudget.getDetailLevel() == 0 && particleBudget.tryAcquire(1)) {
+            viewers.spawn(trail2, x, y + 0.2, z, 1, 0, 0, 0, 0);
         }
     }
 
-    private void spawnConvergenceBurst(Location loc) {
-        playSoundFromConfig(loc, "effects.sounds.ritual-converge");
-        Particle burst = getParticle("effects.particles.convergence-burst", "END_ROD");
-        if (burst == null) return;
-        for (int i = 0; i < 150; i++) {
-            ThreadLocalRandom r = ThreadLocalRandom.current();
-            Vector v = new Vector(r.nextDouble(-1, 1), r.nextDouble(-1, 1), r.nextDouble(-1, 1)).normalize().multiply(0.4);
-            loc.getWorld().spawnParticle(burst, loc, 0, v.getX(), v.getY(), v.getZ(), 1.0);
+    private void spawnConvergenceBurst(ParticleViewers viewers, Location loc) {
+        playSound(loc, effects.getRitualConvergeSound());
+        Particle burst = effects.getConvergenceBurstParticle();
+        if (burst == null || viewers.isEmpty()) return;
+        int count = particleBudget.request(particleBudget.scale(burstPatterns.getPoints()));
+        if (count == 0) return;
+        burstPatterns.emit(viewers, burst, loc.getX(), loc.getY(), loc.getZ(), count);
+    }
+
+    private static void commitBossSpawn(FlightEvents.BossSpawn event, Altar altar, String bossName, boolean mythicMob, boolean spawned) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.altar = altar.getName();
+            event.boss = bossName;
+            event.mythicMob = mythicMob;
+            event.spawned = spawned;
+            event.commit();
         }
     }
 
@@ -488,22 +885,28 @@ public class AltarManager {
         lang.sendMessage(player, "altar-interaction.boss-spawned");
         Location spawnLoc = center.clone().add(0.5, 3, 0.5);
         String bossName = altar.getBossName();
+        boolean mythicMob = !bossName.equalsIgnoreCase("DefaultBoss");
 
-        if (bossName.equalsIgnoreCase("DefaultBoss")) {
+        FlightEvents.BossSpawn event = new FlightEvents.BossSpawn();
+        event.begin();
+        if (!mythicMob) {
             spawnLoc.getWorld().spawn(spawnLoc, Zombie.class);
             plugin.getLogger().info("Altar '" + altar.getName() + "' summoned a default Zombie.");
         } else {
             try {
                 MythicBukkit.inst().getAPIHelper().spawnMythicMob(bossName, spawnLoc, 1);
             } catch (InvalidMobTypeException e) {
+                commitBossSpawn(event, altar, bossName, true, false);
                 plugin.getErrorHandler().logError("Invalid MythicMob name '" + bossName + "' for altar '" + altar.getName() + "'. Please check your MythicMobs files and the altar configuration.", "Altar Data Error");
                 lang.sendMessage(player, "altar-interaction.error-invalid-boss", "%boss%", bossName);
-                summoningAltars.remove(altar);
+                summoningRituals.remove(altar);
                 return;
             }
         }
+        commitBossSpawn(event, altar, bossName, mythicMob, true);
 
-        playSoundFromConfig(center, "effects.sounds.summon-spawn");
+        summonCounts.computeIfAbsent(bossName, k -> new LongAdder()).increment();
+        playSound(center, effects.getSummonSpawnSound());
         
         if (plugin.getConfig().getBoolean("altar.broadcast-summon.enabled", true)) {
             String broadcastMessage = lang.getMessage("altar-interaction.boss-summon-broadcast");
@@ -517,29 +920,51 @@ public class AltarManager {
     }
     
     public void handleBlockClick(Player player, Block clickedBlock) {
+        FlightEvents.AltarInteraction event = new FlightEvents.AltarInteraction();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            clickBlock(player, clickedBlock);
+        } finally {
+            clickTiming.recordSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                AltarBlock altarBlock = clickedBlock != null ? getAltarBlock(clickedBlock) : null;
+                event.altar = altarBlock != null ? altarBlock.getAltar().getName() : null;
+                event.center = altarBlock != null && altarBlock.isCenter();
+                event.player = player.getName();
+                event.commit();
+            }
+        }
+    }
+
+    private void clickBlock(Player player, Block clickedBlock) {
         if (clickedBlock == null) return;
-        Location blockLocation = clickedBlock.getLocation();
+        AltarBlock altarBlock = getAltarBlock(clickedBlock);
+        if (altarBlock == null) return;
 
-        Altar altar = getAltarAt(blockLocation);
-        if (altar == null) return;
+        Altar altar = altarBlock.getAltar();
+        // Blocks of parked altars, and of altars without a center, are indexed for protection only.
+        if (!activeAltars.contains(altar)) return;
+        Location blockLocation = clickedBlock.getLocation();
 
-        if (summoningAltars.contains(altar)) {
+        if (summoningRituals.containsKey(altar)) {
             lang.sendMessage(player, "altar-interaction.summoning");
             return;
         }
 
-        if (placedItemsDisplay.containsKey(blockLocation)) {
-            retrieveItem(player, blockLocation);
+        if (placedItems.containsKey(blockLocation)) {
+            retrieveItem(player, altar, blockLocation);
             return;
         }
 
         ItemStack itemInHand = player.getInventory().getItemInMainHand();
         if (itemInHand.getType().isAir()) return;
 
-        if (isSameBlock(blockLocation, altar.getCenterLocation())) {
+        if (altarBlock.isCenter()) {
             ItemStack centralItemTemplate = altar.getCentralItem();
             if (centralItemTemplate != null && itemInHand.isSimilar(centralItemTemplate)) {
-                if (isAltarReady(altar)) {
+                if (altar.isReady()) {
                     ItemStack centralItemToConsume = itemInHand.clone();
                     centralItemToConsume.setAmount(1);
                     itemInHand.setAmount(itemInHand.getAmount() - 1);
@@ -550,90 +975,80 @@ public class AltarManager {
             } else {
                  lang.sendMessage(player, "altar-interaction.wrong-item");
             }
-        } else if (altar.getPedestalLocations().contains(blockLocation)) {
-            placeItem(player, blockLocation, itemInHand);
+        } else {
+            placeItem(player, altar, blockLocation, itemInHand);
         }
     }
 
-    private boolean isAltarReady(Altar altar) {
-        Map<ItemStack, Integer> required = altar.getRequiredItems();
-        if (required.isEmpty()) return true;
-
-        List<ItemStack> placedItems = placedItemsDisplay.values().stream()
-                .map(Item::getItemStack)
-                .collect(Collectors.toList());
+    public Altar getAltarAt(Location loc) {
+        AltarBlock altarBlock = getAltarBlock(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        return altarBlock != null ? altarBlock.getAltar() : null;
+    }
 
-        for (Map.Entry<ItemStack, Integer> requirement : required.entrySet()) {
-            ItemStack requiredItem = requirement.getKey();
-            int requiredAmount = requirement.getValue();
-            
-            long placedAmount = placedItems.stream().filter(p -> p.isSimilar(requiredItem)).count();
-            
-            if (placedAmount < requiredAmount) {
-                return false;
-            }
-        }
-        return true;
+    public AltarBlock getAltarBlock(Block block) {
+        return getAltarBlock(block.getWorld(), block.getX(), block.getY(), block.getZ());
     }
 
-    public Altar getAltarAt(Location loc) {
-        Location blockLoc = loc.getBlock().getLocation();
-        for (Altar altar : altarMap.values()) {
-            if (isSameBlock(blockLoc, altar.getCenterLocation())) return altar;
-            if (altar.getPedestalLocations().contains(blockLoc)) return altar;
-        }
-        return null;
+    public AltarBlock getAltarBlock(World world, int x, int y, int z) {
+        if (world == null) return null;
+        Map<Long, AltarBlock> worldIndex = blockIndex.get(world.getName());
+        if (worldIndex == null) return null;
+        return worldIndex.get(BlockKey.pack(x, y, z));
     }
 
     public boolean isAltarBlock(Location loc) {
-        return allAltarBlocks.contains(loc.getBlock().getLocation());
+        return getAltarBlock(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()) != null;
     }
-    
-    private boolean isSameBlock(Location loc1, Location loc2) {
-        if (loc1 == null || loc2 == null) return false;
-        if (!Objects.equals(loc1.getWorld(), loc2.getWorld())) return false;
-        return loc1.getBlockX() == loc2.getBlockX() &&
-               loc1.getBlockY() == loc2.getBlockY() &&
-               loc1.getBlockZ() == loc2.getBlockZ();
+
+    public boolean isAltarBlock(Block block) {
+        return getAltarBlock(block) != null;
     }
 
-    private void playSoundFromConfig(Location loc, String configPath) {
-        String soundString = plugin.getConfig().getString(configPath);
-        if (soundString == null || soundString.isEmpty()) {
-            return;
-        }
-        String[] parts = soundString.split(",");
-        try {
-            Sound sound = Sound.valueOf(parts[0].trim().toUpperCase());
-            float volume = (parts.length > 1) ? Float.parseFloat(parts[1]) : 1.0f;
-            float pitch = (parts.length > 2) ? Float.parseFloat(parts[2]) : 1.0f;
-            loc.getWorld().playSound(loc, sound, volume, pitch);
-        } catch (IllegalArgumentException e) {
-            plugin.getErrorHandler().logError("Invalid sound name in config.yml at path '" + configPath + "': " + soundString, "Configuration Error");
+    public void removeProtectedBlocks(World world, List<Block> blocks) {
+        if (world == null || blocks.isEmpty()) return;
+        Map<Long, Integer> worldChunks = altarChunks.get(world.getName());
+        if (worldChunks == null) return;
+
+        boolean nearAltar = false;
+        long lastChunk = Long.MIN_VALUE;
+        for (Block block : blocks) {
+            long chunk = BlockKey.chunkOf(block.getX(), block.getZ());
+            if (chunk == lastChunk) continue;
+            lastChunk = chunk;
+            if (worldChunks.containsKey(chunk)) {
+                nearAltar = true;
+                break;
+            }
         }
+        if (!nearAltar) return;
+
+        Map<Long, AltarBlock> worldIndex = blockIndex.get(world.getName());
+        blocks.removeIf(block -> worldIndex.containsKey(BlockKey.pack(block.getX(), block.getY(), block.getZ())));
     }
-    
-    private Particle getParticle(String path, String defaultValue) {
-        String particleName = plugin.getConfig().getString(path, defaultValue);
-        if (particleName == null || particleName.isEmpty() || particleName.equalsIgnoreCase("none")) {
-            return null;
-        }
-        try {
-            return Particle.valueOf(particleName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            plugin.getErrorHandler().logError("Invalid particle name in config.yml at path '" + path + "': " + particleName, "Configuration Error");
-            return null;
+
+    private void playSound(Location loc, EffectProfile.SoundEffect sound) {
+        if (sound != null) {
+            sound.play(loc);
         }
     }
 
     public void shutdown() {
-        activeTasks.forEach(BukkitTask::cancel);
-        activeTasks.clear();
-        peripheralParticleTasks.values().forEach(BukkitTask::cancel);
-        peripheralParticleTasks.clear();
+        saveDirtyAltars();
+        if (readyEffectTask != null) {
+            readyEffectTask.cancel();
+            readyEffectTask = null;
+        }
+        ritualTicker.shutdown();
+        qualityController.shutdown();
+        effectEngine.shutdown();
+        particleBudget.shutdown();
+        pedestalEmitters.clear();
         new ArrayList<>(placedItemsDisplay.values()).forEach(Entity::remove);
         placedItemsDisplay.clear();
-        summoningAltars.clear();
+        placedItems.clear();
+        refundedItems.clear();
+        activeAltars.clear();
+        summoningRituals.clear();
         itemPlacers.clear();
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+
+/**
+ * Schedules plugin work either on the Bukkit main thread or, on Folia, on the region that owns a location.
+ */
+public interface AltarScheduler {
+
+    interface Task {
+        void cancel();
+    }
+
+    /** True when the server ticks regions on separate threads (Folia). */
+    boolean isRegionized();
+
+    /** Repeats {@code task} on the global tick (the main thread, or Folia's global region). */
+    Task runTimer(Runnable task, long delay, long period);
+
+    /** Runs {@code task} once on the global tick after {@code delay} ticks. */
+    Task runLater(Runnable task, long delay);
+
+    /** Repeats {@code task} on the thread that owns {@code loc}. */
+    Task runTimerAt(Location loc, Runnable task, long delay, long period);
+
+    /** Runs {@code task} right away if the current thread owns {@code loc}, otherwise on the owning thread's next tick. */
+    void runAt(Location loc, Runnable task);
+
+    static AltarScheduler create(VtAlters plugin) {
+        if (FoliaAltarScheduler.isSupported()) {
+            try {
+                return new FoliaAltarScheduler(plugin);
+            } catch (ReflectiveOperationException e) {
+                plugin.getErrorHandler().logError("Could not hook into the Folia region scheduler: " + e, "Scheduler Error");
+            }
+        }
+        return new BukkitAltarScheduler(plugin);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class AltarSerializer {
+
+    private AltarSerializer() {
+    }
+
+    public static void write(ConfigurationSection section, Altar altar) {
+        section.set("boss-name", altar.getBossName());
+        section.set("center", altar.getCenter() != null ? altar.getCenter().toString() : "not_set");
+        section.set("central-item", altar.getCentralItem() != null ? altar.getCentralItem().serialize() : null);
+
+        List<Map<String, Object>> requiredItems = new ArrayList<>();
+        for (Map.Entry<ItemStack, Integer> entry : altar.getRequiredItems().entrySet()) {
+            Map<String, Object> itemEntry = new HashMap<>();
+            itemEntry.put("item", entry.getKey().serialize());
+            itemEntry.put("amount", entry.getValue());
+            requiredItems.add(itemEntry);
+        }
+        section.set("required-items", requiredItems);
+
+        List<String> pedestalLocations = new ArrayList<>();
+        for (BlockPos pedestal : altar.getPedestals()) {
+            pedestalLocations.add(pedestal.toString());
+        }
+        section.set("pedestal-locations", pedestalLocations);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Altar read(VtAlters plugin, String altarName, ConfigurationSection section) {
+        Altar altar = new Altar(altarName);
+        BlockPos center = BlockPos.fromString(section.getString("center"));
+        if (center == null && !Objects.equals(section.getString("center", "not_set"), "not_set")) {
+            plugin.getErrorHandler().logError("Invalid center location for altar '" + altarName + "' in the altar data. It might be a typo.", "Altar Data Error");
+        }
+        altar.setCenter(center);
+
+        altar.setBossName(section.getString("boss-name", "DefaultBoss"));
+
+        if (section.isConfigurationSection("central-item")) {
+            try {
+                altar.setCentralItem(ItemStack.deserialize(section.getConfigurationSection("central-item").getValues(true)));
+            } catch (Exception e) {
+                plugin.getErrorHandler().logError("Failed to deserialize central-item for altar '" + altarName + "'. Check the altar data. Error: " + e.getMessage(), "Altar Data Error");
+            }
+        }
+
+        Map<ItemStack, Integer> requiredItems = new HashMap<>();
+        Map<ItemFingerprint, ItemStack> requiredKeys = new HashMap<>();
+        List<Map<?, ?>> itemsList = section.getMapList("required-items");
+        for (Map<?, ?> itemMap : itemsList) {
+            if (itemMap.containsKey("item") && itemMap.containsKey("amount")) {
+                try {
+                    ItemStack item = ItemStack.deserialize((Map<String, Object>) itemMap.get("item"));
+                    int amount = (Integer) itemMap.get("amount");
+
+                    ItemStack existingKey = requiredKeys.putIfAbsent(ItemFingerprint.of(item), item);
+                    requiredItems.merge(existingKey != null ? existingKey : item, amount, Integer::sum);
+                } catch (Exception e) {
+                    plugin.getErrorHandler().logError("Failed to deserialize a required-item for altar '" + altarName + "'. Check the altar data. Error: " + e.getMessage(), "Altar Data Error");
+                }
+            }
+        }
+        altar.setRequiredItems(requiredItems);
+
+        List<BlockPos> pedestals = new ArrayList<>();
+        for (String locString : section.getStringList("pedestal-locations")) {
+            BlockPos pedestal = BlockPos.fromString(locString);
+            if (pedestal != null) {
+                pedestals.add(pedestal);
+            } else {
+                plugin.getErrorHandler().logError("Invalid pedestal location '" + locString + "' for altar '" + altarName + "' in the altar data.", "Altar Data Error");
+            }
+        }
+        altar.setPedestals(pedestals);
+        return altar;
+    }
+
+    public static void copy(ConfigurationSection from, ConfigurationSection to) {
+        for (String key : from.getKeys(false)) {
+            if (from.isConfigurationSection(key)) {
+                copy(from.getConfigurationSection(key), to.createSection(key));
+            } else {
+                to.set(key, from.get(key));
+            }
+        }
+    }
+}
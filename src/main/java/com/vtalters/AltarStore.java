@@ -0,0 +1,39 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Map;
+
+/**
+ * Persistent storage for altar definitions. Each altar is stored as its own record in the
+ * same layout as an entry under {@code altars:} in altars.yml (see {@link AltarSerializer}).
+ * All methods are called from the main thread; implementations decide when the actual I/O happens.
+ */
+public interface AltarStore {
+
+    String getType();
+
+    Map<String, ConfigurationSection> loadAll();
+
+    /**
+     * Inserts or replaces a single altar. The section is copied, so callers may reuse it afterwards.
+     */
+    void save(String altarName, ConfigurationSection data);
+
+    void delete(String altarName);
+
+    /**
+     * Blocks until every save and delete issued so far has been written.
+     */
+    void flush();
+
+    void close();
+}
@@ -0,0 +1,41 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Shows floating items as the helmet of a small invisible marker armor stand. Works on every server version.
+ */
+public final class ArmorStandItemRenderer implements FloatingItemRenderer {
+
+    private static final double HEAD_OFFSET = 0.75;
+
+    @Override
+    public String getName() {
+        return "armor_stand";
+    }
+
+    @Override
+    public FloatingItem spawn(Location loc, ItemStack stack) {
+        ArmorStand stand = loc.getWorld().spawn(loc.clone().subtract(0, HEAD_OFFSET, 0), ArmorStand.class, armorStand -> {
+            armorStand.setGravity(false);
+            armorStand.setMarker(true);
+            armorStand.setVisible(false);
+            armorStand.setSmall(true);
+            armorStand.setPersistent(false);
+            if (armorStand.getEquipment() != null) {
+                armorStand.getEquipment().setHelmet(stack.clone());
+            }
+        });
+        return new EntityFloatingItem(stand, HEAD_OFFSET);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+/**
+ * Packs block coordinates into a single long so altar blocks can be looked up
+ * without creating Location objects. Layout: 26 bits x, 26 bits z, 12 bits y.
+ */
+public final class BlockKey {
+
+    private BlockKey() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static long chunk(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public static long chunkOf(int blockX, int blockZ) {
+        return chunk(blockX >> 4, blockZ >> 4);
+    }
+}
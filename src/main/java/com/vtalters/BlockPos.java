@@ -0,0 +1,83 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * A block position identified by world name, so it stays valid while the world is not loaded.
+ */
+public final class BlockPos {
+
+    private final String worldName;
+    private final int x;
+    private final int y;
+    private final int z;
+
+    public BlockPos(String worldName, int x, int y, int z) {
+        this.worldName = worldName;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public static BlockPos of(Location loc) {
+        return new BlockPos(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    public static BlockPos fromString(String locString) {
+        if (locString == null || locString.isEmpty() || locString.equalsIgnoreCase("not_set")) return null;
+        String[] parts = locString.split(",");
+        if (parts.length < 4 || parts[0].isEmpty()) return null;
+        try {
+            int x = Integer.parseInt(parts[1].trim());
+            int y = Integer.parseInt(parts[2].trim());
+            int z = Integer.parseInt(parts[3].trim());
+            return new BlockPos(parts[0], x, y, z);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String getWorldName() { return worldName; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getZ() { return z; }
+
+    public long getKey() {
+        return BlockKey.pack(x, y, z);
+    }
+
+    public boolean isIn(World world) {
+        return world != null && worldName.equals(world.getName());
+    }
+
+    public Location toLocation(World world) {
+        return new Location(world, x, y, z);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BlockPos)) return false;
+        BlockPos other = (BlockPos) o;
+        return x == other.x && y == other.y && z == other.z && worldName.equals(other.worldName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * worldName.hashCode() + Long.hashCode(getKey());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s,%d,%d,%d", worldName, x, y, z);
+    }
+}
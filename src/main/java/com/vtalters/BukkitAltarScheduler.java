@@ -0,0 +1,56 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Runs everything on the Bukkit main thread.
+ */
+public final class BukkitAltarScheduler implements AltarScheduler {
+
+    private final VtAlters plugin;
+
+    public BukkitAltarScheduler(VtAlters plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public Task runTimer(Runnable task, long delay, long period) {
+        BukkitTask handle = plugin.getServer().getScheduler().runTaskTimer(plugin, task, delay, period);
+        return handle::cancel;
+    }
+
+    @Override
+    public Task runLater(Runnable task, long delay) {
+        BukkitTask handle = plugin.getServer().getScheduler().runTaskLater(plugin, task, delay);
+        return handle::cancel;
+    }
+
+    @Override
+    public Task runTimerAt(Location loc, Runnable task, long delay, long period) {
+        return runTimer(task, delay, period);
+    }
+
+    @Override
+    public void runAt(Location loc, Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        }
+    }
+}
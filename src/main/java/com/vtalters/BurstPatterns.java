@@ -0,0 +1,64 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Particle;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A small pool of pre-generated convergence burst shapes.
+ * Each pattern holds random directions on the unit sphere, already scaled to the burst speed, as flat x/y/z triples.
+ * A burst picks one pattern and turns it by a random angle around Y, so no two bursts look alike.
+ */
+public final class BurstPatterns {
+
+    private static final int POOL_SIZE = 8;
+
+    private final double[][] patterns = new double[POOL_SIZE][];
+    private final int points;
+
+    public BurstPatterns(int points, double speed) {
+        this.points = points;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int p = 0; p < POOL_SIZE; p++) {
+            double[] pattern = new double[points * 3];
+            for (int i = 0; i < pattern.length; i += 3) {
+                // Uniform direction on the sphere: uniform height, uniform angle around it.
+                double y = random.nextDouble(-1, 1);
+                double angle = random.nextDouble(0, 2 * Math.PI);
+                double horizontal = Math.sqrt(1 - y * y);
+                pattern[i] = horizontal * Math.cos(angle) * speed;
+                pattern[i + 1] = y * speed;
+                pattern[i + 2] = horizontal * Math.sin(angle) * speed;
+            }
+            patterns[p] = pattern;
+        }
+    }
+
+    public int getPoints() { return points; }
+
+    /**
+     * Emits the first {@code count} directions of a random pattern from the given point.
+     * The points of a pattern are in random order, so any prefix is still an even spread.
+     */
+    public void emit(ParticleViewers viewers, Particle particle, double x, double y, double z, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[] pattern = patterns[random.nextInt(POOL_SIZE)];
+        double rotation = random.nextDouble(0, 2 * Math.PI);
+        double cos = Math.cos(rotation);
+        double sin = Math.sin(rotation);
+        int end = Math.min(count, points) * 3;
+        for (int i = 0; i < end; i += 3) {
+            double dx = pattern[i];
+            double dz = pattern[i + 2];
+            viewers.spawn(particle, x, y, z, 0, dx * cos - dz * sin, pattern[i + 1], dx * sin + dz * cos, 1.0);
+        }
+    }
+}
@@ -8,11 +8,21 @@
 
 package com.vtalters;
 
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class DataManager {
 
@@ -20,8 +30,20 @@ public class DataManager {
     private FileConfiguration dataConfig = null;
     private File configFile = null;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VtAlters-DataSave");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object writeLock = new Object();
+    private final TimingHistogram writeTiming;
+    private AltarScheduler.Task pendingSave;
+    private long snapshotGeneration = 0;
+    private volatile long writtenGeneration = 0;
+
     public DataManager(VtAlters plugin) {
         this.plugin = plugin;
+        this.writeTiming = plugin.getTimings().get("storage.write");
         saveDefaultConfig();
     }
 
@@ -29,7 +51,11 @@ public class DataManager {
         if (this.configFile == null) {
             this.configFile = new File(this.plugin.getDataFolder(), "altars.yml");
         }
-        this.dataConfig = YamlConfiguration.loadConfiguration(this.configFile);
+        // Never read the file back while a newer in-memory state is still waiting to be written.
+        flush();
+        synchronized (writeLock) {
+            this.dataConfig = YamlConfiguration.loadConfiguration(this.configFile);
+        }
     }
 
     public FileConfiguration getConfig() {
@@ -39,15 +65,116 @@ public class DataManager {
         return this.dataConfig;
     }
 
-    public void saveConfig() {
+    /**
+     * Writes the data file immediately on the calling thread. Used when the plugin is disabled or reloaded;
+     * edits during normal play go through {@link #requestSave()}.
+     */
+    public synchronized void saveConfig() {
+        if (this.dataConfig == null || this.configFile == null) {
+            return;
+        }
+        cancelPendingSave();
+        writeSnapshot(++snapshotGeneration, this.dataConfig.saveToString());
+    }
+
+    /**
+     * Schedules an asynchronous save. Requests arriving within the configured delay are coalesced into one
+     * write, which happens on a background thread from a snapshot taken on the main thread.
+     */
+    public synchronized void requestSave() {
         if (this.dataConfig == null || this.configFile == null) {
             return;
         }
+        if (!plugin.isEnabled()) {
+            saveConfig();
+            return;
+        }
+        cancelPendingSave();
+        long delay = Math.max(1L, plugin.getConfig().getLong("storage.save-delay-ticks", 20L));
+        pendingSave = plugin.getAltarScheduler().runLater(() -> {
+            long generation;
+            YamlConfiguration snapshot;
+            synchronized (this) {
+                pendingSave = null;
+                generation = ++snapshotGeneration;
+                snapshot = createSnapshot();
+            }
+            saveExecutor.execute(() -> writeSnapshot(generation, snapshot.saveToString()));
+        }, delay);
+    }
+
+    public synchronized void flush() {
+        if (pendingSave != null || writtenGeneration < snapshotGeneration) {
+            saveConfig();
+        }
+    }
+
+    public void shutdown() {
+        flush();
+        saveExecutor.shutdown();
         try {
-            this.getConfig().save(this.configFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Could not save config to " + this.configFile);
-            e.printStackTrace();
+            if (!saveExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for pending altar data writes to finish.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelPendingSave() {
+        if (pendingSave != null) {
+            pendingSave.cancel();
+            pendingSave = null;
+        }
+    }
+
+    private YamlConfiguration createSnapshot() {
+        // Copies leaf values only; edits always replace values rather than mutating them, so the copy
+        // stays stable while it is serialized off the main thread.
+        YamlConfiguration snapshot = new YamlConfiguration();
+        for (Map.Entry<String, Object> entry : this.dataConfig.getValues(true).entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection) {
+                if (((ConfigurationSection) value).getKeys(false).isEmpty()) {
+                    snapshot.createSection(entry.getKey());
+                }
+            } else {
+                snapshot.set(entry.getKey(), value);
+            }
+        }
+        return snapshot;
+    }
+
+    private void writeSnapshot(long generation, String contents) {
+        synchronized (writeLock) {
+            if (generation <= writtenGeneration) {
+                return;
+            }
+            FlightEvents.StorageWrite event = new FlightEvents.StorageWrite();
+            event.begin();
+            long start = System.nanoTime();
+            Path target = this.configFile.toPath();
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(target.getParent());
+                Files.write(temp, contents.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                writtenGeneration = generation;
+            } catch (IOException e) {
+                plugin.getLogger().severe("Could not save config to " + this.configFile);
+                e.printStackTrace();
+            }
+            writeTiming.recordSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.storage = "yaml";
+                event.target = target.getFileName().toString();
+                event.commit();
+            }
         }
     }
 
@@ -59,4 +186,4 @@ public class DataManager {
             this.plugin.saveResource("altars.yml", false);
         }
     }
-}
\ No newline at end of file
+}
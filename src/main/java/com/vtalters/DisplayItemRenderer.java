@@ -0,0 +1,71 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.reflect.Method;
+
+/**
+ * Shows floating items with item display entities (1.19.4+). Displays have no AI, physics or collision,
+ * so moving them every tick is far cheaper than moving armor stands.
+ * The API is looked up reflectively because the plugin is compiled against 1.17.
+ */
+public final class DisplayItemRenderer implements FloatingItemRenderer {
+
+    private final Class<? extends Entity> displayClass;
+    private final Method setItemStack;
+    private final Method setTeleportDuration;
+
+    private DisplayItemRenderer(Class<? extends Entity> displayClass, Method setItemStack, Method setTeleportDuration) {
+        this.displayClass = displayClass;
+        this.setItemStack = setItemStack;
+        this.setTeleportDuration = setTeleportDuration;
+    }
+
+    /** Returns null when the server has no item display entities. */
+    public static DisplayItemRenderer tryCreate() {
+        try {
+            Class<? extends Entity> displayClass = Class.forName("org.bukkit.entity.ItemDisplay").asSubclass(Entity.class);
+            Method setItemStack = displayClass.getMethod("setItemStack", ItemStack.class);
+            Method setTeleportDuration = null;
+            try {
+                // 1.20.2+: let the client interpolate between our per-tick moves.
+                setTeleportDuration = displayClass.getMethod("setTeleportDuration", int.class);
+            } catch (NoSuchMethodException ignored) {
+            }
+            return new DisplayItemRenderer(displayClass, setItemStack, setTeleportDuration);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "display";
+    }
+
+    @Override
+    public FloatingItem spawn(Location loc, ItemStack stack) {
+        Entity display = loc.getWorld().spawn(loc, displayClass);
+        display.setPersistent(false);
+        try {
+            setItemStack.invoke(display, stack.clone());
+            if (setTeleportDuration != null) {
+                setTeleportDuration.invoke(display, 1);
+            }
+        } catch (ReflectiveOperationException e) {
+            display.remove();
+            throw new IllegalStateException("Could not set up item display entity", e);
+        }
+        return new EntityFloatingItem(display, 0);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives every pedestal particle ring from a single repeating task (on Folia, one task per altar, ticked by the
+ * region that owns the altar's centre).
+ * Emitters live in a flat array; adding and removing one is O(1). On Folia that array is only touched by its own
+ * region, so changes made from anywhere else are handed to it with {@link AltarScheduler#runAt}.
+ * Particles are only sent to the altar's {@link ParticleViewers}, which this task refreshes once a second.
+ */
+public final class EffectEngine {
+
+    private static final long PERIOD_TICKS = 2L;
+    private static final int VIEWER_REFRESH_RUNS = 10;
+    private static final int RING_STEPS = 32;
+    private static final double RING_RADIUS = 0.8;
+    private static final double[] RING_X = new double[RING_STEPS];
+    private static final double[] RING_Z = new double[RING_STEPS];
+
+    static {
+        for (int i = 0; i < RING_STEPS; i++) {
+            double angle = 2 * Math.PI * i / RING_STEPS;
+            RING_X[i] = RING_RADIUS * Math.cos(angle);
+            RING_Z[i] = RING_RADIUS * Math.sin(angle);
+        }
+    }
+
+    /** A particle ring circling above one pedestal block. */
+    public static final class Emitter {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Particle particle;
+        private final ParticleViewers viewers;
+        private final Lane lane;
+        private int step;
+        private int slot = -1;
+        // Set by remove() right away, so an add still queued for the lane's region is dropped.
+        private volatile boolean removed;
+
+        private Emitter(Lane lane, double x, double y, double z, Particle particle, ParticleViewers viewers) {
+            this.lane = lane;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.particle = particle;
+            this.viewers = viewers;
+        }
+
+        public boolean isActive() { return !removed; }
+    }
+
+    /**
+     * A group of emitters ticked together. Without Folia there is a single lane for every altar;
+     * on Folia each altar gets its own lane, ticked by the region that owns the altar's centre.
+     */
+    private final class Lane {
+        private final Location anchor;
+        private final Map<Altar, ParticleViewers> viewers = new HashMap<>();
+        private Emitter[] emitters = new Emitter[16];
+        private volatile int size;
+        private int runs;
+        private volatile AltarScheduler.Task task;
+
+        /** The lane shared by every altar, only used from the main thread. */
+        private Lane() {
+            this.anchor = null;
+        }
+
+        /** The lane of a single altar; its viewers are fixed here and first refreshed by the lane's own tick. */
+        private Lane(Altar altar, Location anchor) {
+            this.anchor = anchor;
+            viewers.put(altar, new ParticleViewers(anchor, viewDistance));
+        }
+
+        /** Runs {@code action} on the thread that ticks this lane. */
+        private void run(Runnable action) {
+            if (anchor == null) {
+                action.run();
+            } else {
+                scheduler.runAt(anchor, action);
+            }
+        }
+
+        private void start() {
+            if (task != null) return;
+            task = anchor == null
+                    ? scheduler.runTimer(this::tick, 0L, PERIOD_TICKS)
+                    : scheduler.runTimerAt(anchor, this::tick, 0L, PERIOD_TICKS);
+        }
+
+        private void cancel() {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+
+        private void stop() {
+            cancel();
+            for (int i = 0; i < size; i++) {
+                emitters[i].slot = -1;
+                emitters[i] = null;
+            }
+            size = 0;
+            viewers.clear();
+        }
+
+        private ParticleViewers getViewers(Altar altar) {
+            ParticleViewers altarViewers = viewers.get(altar);
+            if (altarViewers == null && anchor == null) {
+                Location center = altar.getCenterLocation();
+                if (center == null) return null;
+                altarViewers = new ParticleViewers(center, viewDistance);
+                altarViewers.refresh();
+                viewers.put(altar, altarViewers);
+            }
+            return altarViewers;
+        }
+
+        private void add(Emitter emitter) {
+            if (emitter.removed || emitter.slot >= 0) return;
+            if (size == emitters.length) {
+                emitters = Arrays.copyOf(emitters, size * 2);
+            }
+            emitter.slot = size;
+            emitters[size++] = emitter;
+        }
+
+        private void remove(Emitter emitter) {
+            int slot = emitter.slot;
+            if (slot < 0) return;
+            Emitter last = emitters[--size];
+            emitters[slot] = last;
+            last.slot = slot;
+            emitters[size] = null;
+            emitter.slot = -1;
+        }
+
+        private void tick() {
+            long start = System.nanoTime();
+            int run = runs++;
+            if (run % VIEWER_REFRESH_RUNS == 0) {
+                viewers.values().forEach(ParticleViewers::refresh);
+            }
+            // The lane claims its particles from the shared budget once per run, not once per particle.
+            int allowance = 0;
+            if (run % emitInterval == 0) {
+                int wanted = 0;
+                for (int i = 0; i < size; i++) {
+                    if (!emitters[i].viewers.isEmpty()) wanted++;
+                }
+                allowance = budget.request(wanted);
+            }
+            for (int i = 0; i < size; i++) {
+                Emitter emitter = emitters[i];
+                int step = emitter.step = (emitter.step + 1) & (RING_STEPS - 1);
+                if (allowance == 0 || emitter.viewers.isEmpty()) continue;
+                allowance--;
+                emitter.viewers.spawn(emitter.particle, emitter.x + RING_X[step], emitter.y, emitter.z + RING_Z[step], 1, 0, 0, 0, 0);
+            }
+            timing.recordSince(start);
+        }
+    }
+
+    private final AltarScheduler scheduler;
+    private final double viewDistance;
+    private final ParticleBudget budget;
+    private final TimingHistogram timing;
+    private final Lane globalLane;
+    private final Map<Altar, Lane> regionLanes = new ConcurrentHashMap<>();
+    private volatile int emitInterval = 1;
+
+    public EffectEngine(VtAlters plugin, EffectProfile effects, ParticleBudget budget) {
+        this.scheduler = plugin.getAltarScheduler();
+        this.viewDistance = effects.getViewDistance();
+        this.budget = budget;
+        this.timing = plugin.getTimings().get("effects.pedestal-rings");
+        this.globalLane = scheduler.isRegionized() ? null : new Lane();
+    }
+
+    public void start() {
+        if (globalLane != null) {
+            globalLane.start();
+        }
+    }
+
+    private Lane laneFor(Altar altar) {
+        if (globalLane != null) return globalLane;
+        return regionLanes.computeIfAbsent(altar, key -> {
+            Location center = key.getCenterLocation();
+            if (center == null) return null;
+            Lane lane = new Lane(key, center);
+            lane.start();
+            return lane;
+        });
+    }
+
+    /** Returns the viewers of a bound altar, or null while its world is not loaded. */
+    public ParticleViewers getViewers(Altar altar) {
+        Lane lane = laneFor(altar);
+        return lane != null ? lane.getViewers(altar) : null;
+    }
+
+    /** Forgets the viewers (and on Folia the lane) of an altar that moved, was parked or was deleted. */
+    public void release(Altar altar) {
+        if (globalLane != null) {
+            globalLane.viewers.remove(altar);
+            return;
+        }
+        Lane lane = regionLanes.remove(altar);
+        if (lane != null) {
+            lane.run(lane::stop);
+        }
+    }
+
+    /** Adds a ring above the given block of a bound altar, or returns null if the altar is unbound. */
+    public Emitter addRing(Altar altar, Location blockLocation, double height, Particle particle) {
+        Lane lane = laneFor(altar);
+        ParticleViewers ringViewers = lane != null ? lane.getViewers(altar) : null;
+        if (ringViewers == null) return null;
+        Emitter emitter = new Emitter(lane, blockLocation.getBlockX() + 0.5, blockLocation.getBlockY() + height,
+                blockLocation.getBlockZ() + 0.5, particle, ringViewers);
+        lane.run(() -> lane.add(emitter));
+        return emitter;
+    }
+
+    public void remove(Emitter emitter) {
+        if (emitter == null || !emitter.isActive()) return;
+        emitter.removed = true;
+        emitter.lane.run(() -> emitter.lane.remove(emitter));
+    }
+
+    public int size() {
+        if (globalLane != null) return globalLane.size;
+        int size = 0;
+        for (Lane lane : regionLanes.values()) {
+            size += lane.size;
+        }
+        return size;
+    }
+
+    /** Rings keep turning at the same speed but only emit on every n-th run. */
+    public void setEmitInterval(int emitInterval) {
+        this.emitInterval = Math.max(1, emitInterval);
+    }
+
+    public void shutdown() {
+        if (globalLane != null) {
+            globalLane.stop();
+        }
+        // Region lanes can only be cleared from their own region; with their tasks gone they are simply dropped.
+        regionLanes.values().forEach(Lane::cancel);
+        regionLanes.clear();
+    }
+}
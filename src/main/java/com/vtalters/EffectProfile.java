@@ -0,0 +1,178 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Snapshot of the {@code effects.*} section of config.yml with every particle and sound already resolved.
+ * Built once when the AltarManager is created so effect tasks never touch the configuration.
+ */
+public final class EffectProfile {
+
+    public static final class SoundEffect {
+        private final Sound sound;
+        private final float volume;
+        private final float pitch;
+
+        public SoundEffect(Sound sound, float volume, float pitch) {
+            this.sound = sound;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        public Sound getSound() { return sound; }
+        public float getVolume() { return volume; }
+        public float getPitch() { return pitch; }
+
+        public void play(Location loc) {
+            if (loc.getWorld() != null) {
+                loc.getWorld().playSound(loc, sound, volume, pitch);
+            }
+        }
+    }
+
+    /** How the floating items of the summoning ritual are shown, from {@code effects.ritual-visuals}. */
+    public enum RitualVisuals {
+        AUTO,
+        DISPLAY,
+        ARMOR_STAND
+    }
+
+    private final double pedestalHeight;
+    private final double readyParticleHeight;
+    private final double ritualRingOffset;
+    private final double viewDistance;
+    private final int convergenceBurstPoints;
+    private final int particleBudgetPerTick;
+    private final RitualVisuals ritualVisuals;
+    private final boolean adaptiveQuality;
+    private final double mediumQualityMspt;
+    private final double lowQualityMspt;
+    private final double minimalQualityMspt;
+    private final double qualityRecoverMargin;
+    private final RitualTimeline ritualTimeline;
+
+    private final Particle altarReadyParticle;
+    private final Particle ritualRingParticle;
+    private final Particle pedestalReadyParticle;
+    private final Particle trailParticle;
+    private final Particle secondaryTrailParticle;
+    private final Particle convergenceBurstParticle;
+
+    private final SoundEffect ritualStartSound;
+    private final SoundEffect ritualAmbientSound;
+    private final SoundEffect ritualItemsFlySound;
+    private final SoundEffect ritualConvergeSound;
+    private final SoundEffect summonSpawnSound;
+
+    private EffectProfile(VtAlters plugin) {
+        FileConfiguration config = plugin.getConfig();
+
+        this.pedestalHeight = config.getDouble("effects.heights.pedestal", 1.2);
+        this.readyParticleHeight = config.getDouble("effects.heights.ready-particle", 1.2);
+        this.ritualRingOffset = config.getDouble("effects.heights.ritual-ring-offset", 0.0);
+        this.viewDistance = Math.max(1.0, config.getDouble("effects.view-distance", 48.0));
+        this.convergenceBurstPoints = Math.max(1, config.getInt("effects.convergence-burst-points", 150));
+        this.particleBudgetPerTick = Math.max(1, config.getInt("effects.particle-budget.per-tick", 300));
+        this.ritualVisuals = parseRitualVisuals(plugin, config.getString("effects.ritual-visuals", "auto"));
+        this.adaptiveQuality = config.getBoolean("effects.adaptive-quality.enabled", true);
+        this.mediumQualityMspt = config.getDouble("effects.adaptive-quality.medium-mspt", 35.0);
+        this.lowQualityMspt = config.getDouble("effects.adaptive-quality.low-mspt", 45.0);
+        this.minimalQualityMspt = config.getDouble("effects.adaptive-quality.minimal-mspt", 55.0);
+        this.qualityRecoverMargin = Math.max(0.0, config.getDouble("effects.adaptive-quality.recover-margin", 5.0));
+        this.ritualTimeline = RitualTimeline.load(plugin);
+
+        this.altarReadyParticle = parseParticle(plugin, "effects.particles.altar-ready", "SOUL_FIRE_FLAME");
+        this.ritualRingParticle = parseParticle(plugin, "effects.particles.ritual-ring", "SOUL_FIRE_FLAME");
+        this.pedestalReadyParticle = parseParticle(plugin, "effects.particles.pedestal-ready", "END_ROD");
+        this.trailParticle = parseParticle(plugin, "effects.particles.animation-trail", "ENCHANTMENT_TABLE");
+        this.secondaryTrailParticle = parseParticle(plugin, "effects.particles.animation-trail-secondary", "END_ROD");
+        this.convergenceBurstParticle = parseParticle(plugin, "effects.particles.convergence-burst", "END_ROD");
+
+        this.ritualStartSound = parseSound(plugin, "effects.sounds.ritual-start");
+        this.ritualAmbientSound = parseSound(plugin, "effects.sounds.ritual-ambient-loop");
+        this.ritualItemsFlySound = parseSound(plugin, "effects.sounds.ritual-items-fly");
+        this.ritualConvergeSound = parseSound(plugin, "effects.sounds.ritual-converge");
+        this.summonSpawnSound = parseSound(plugin, "effects.sounds.summon-spawn");
+    }
+
+    public static EffectProfile load(VtAlters plugin) {
+        return new EffectProfile(plugin);
+    }
+
+    public double getPedestalHeight() { return pedestalHeight; }
+    public double getReadyParticleHeight() { return readyParticleHeight; }
+    public double getRitualRingOffset() { return ritualRingOffset; }
+    public double getViewDistance() { return viewDistance; }
+    public int getConvergenceBurstPoints() { return convergenceBurstPoints; }
+    public int getParticleBudgetPerTick() { return particleBudgetPerTick; }
+    public RitualVisuals getRitualVisuals() { return ritualVisuals; }
+    public boolean isAdaptiveQuality() { return adaptiveQuality; }
+    public double getMediumQualityMspt() { return mediumQualityMspt; }
+    public double getLowQualityMspt() { return lowQualityMspt; }
+    public double getMinimalQualityMspt() { return minimalQualityMspt; }
+    public double getQualityRecoverMargin() { return qualityRecoverMargin; }
+    public RitualTimeline getRitualTimeline() { return ritualTimeline; }
+
+    public Particle getAltarReadyParticle() { return altarReadyParticle; }
+    public Particle getRitualRingParticle() { return ritualRingParticle; }
+    public Particle getPedestalReadyParticle() { return pedestalReadyParticle; }
+    public Particle getTrailParticle() { return trailParticle; }
+    public Particle getSecondaryTrailParticle() { return secondaryTrailParticle; }
+    public Particle getConvergenceBurstParticle() { return convergenceBurstParticle; }
+
+    public SoundEffect getRitualStartSound() { return ritualStartSound; }
+    public SoundEffect getRitualAmbientSound() { return ritualAmbientSound; }
+    public SoundEffect getRitualItemsFlySound() { return ritualItemsFlySound; }
+    public SoundEffect getRitualConvergeSound() { return ritualConvergeSound; }
+    public SoundEffect getSummonSpawnSound() { return summonSpawnSound; }
+
+    private static RitualVisuals parseRitualVisuals(VtAlters plugin, String value) {
+        try {
+            return RitualVisuals.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getErrorHandler().logError("Invalid value in config.yml at path 'effects.ritual-visuals': " + value + ". Using 'auto' instead.", "Configuration Error");
+            return RitualVisuals.AUTO;
+        }
+    }
+
+    private static Particle parseParticle(VtAlters plugin, String path, String defaultValue) {
+        String particleName = plugin.getConfig().getString(path, defaultValue);
+        if (particleName == null || particleName.isEmpty() || particleName.equalsIgnoreCase("none")) {
+            return null;
+        }
+        try {
+            return Particle.valueOf(particleName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getErrorHandler().logError("Invalid particle name in config.yml at path '" + path + "': " + particleName, "Configuration Error");
+            return null;
+        }
+    }
+
+    private static SoundEffect parseSound(VtAlters plugin, String path) {
+        String soundString = plugin.getConfig().getString(path);
+        if (soundString == null || soundString.isEmpty()) {
+            return null;
+        }
+        String[] parts = soundString.split(",");
+        try {
+            Sound sound = Sound.valueOf(parts[0].trim().toUpperCase());
+            float volume = (parts.length > 1) ? Float.parseFloat(parts[1]) : 1.0f;
+            float pitch = (parts.length > 2) ? Float.parseFloat(parts[2]) : 1.0f;
+            return new SoundEffect(sound, volume, pitch);
+        } catch (IllegalArgumentException e) {
+            plugin.getErrorHandler().logError("Invalid sound name in config.yml at path '" + path + "': " + soundString, "Configuration Error");
+            return null;
+        }
+    }
+}
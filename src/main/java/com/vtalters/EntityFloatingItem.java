@@ -0,0 +1,46 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * A floating item backed by a single entity whose location sits {@code yOffset} below the item's visual centre.
+ */
+public final class EntityFloatingItem implements FloatingItem {
+
+    private final Entity entity;
+    private final double yOffset;
+    private final Location position;
+
+    public EntityFloatingItem(Entity entity, double yOffset) {
+        this.entity = entity;
+        this.yOffset = yOffset;
+        this.position = entity.getLocation();
+    }
+
+    @Override
+    public void moveTo(double x, double y, double z) {
+        position.setX(x);
+        position.setY(y - yOffset);
+        position.setZ(z);
+        entity.teleport(position);
+    }
+
+    @Override
+    public boolean isValid() {
+        return entity.isValid();
+    }
+
+    @Override
+    public void remove() {
+        entity.remove();
+    }
+}
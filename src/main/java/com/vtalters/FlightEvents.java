@@ -0,0 +1,136 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for altar activity, shown under "VtAlters" in JDK Mission Control.
+ * Callers create an event, {@code begin()} it, and only fill in the fields when {@code shouldCommit()} is true.
+ * While no recording has the events enabled, the JIT reduces all of that to nothing.
+ */
+public final class FlightEvents {
+
+    private static final String CATEGORY = "VtAlters";
+
+    private FlightEvents() {
+    }
+
+    @Name("com.vtalters.AltarInteraction")
+    @Label("Altar Interaction")
+    @Description("A player right-clicked a block of an altar")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class AltarInteraction extends Event {
+        @Label("Altar")
+        String altar;
+
+        @Label("Player")
+        String player;
+
+        @Label("Center")
+        @Description("Whether the center block was clicked rather than a pedestal")
+        boolean center;
+    }
+
+    @Name("com.vtalters.PedestalItem")
+    @Label("Pedestal Item")
+    @Description("An item was placed on or taken from a pedestal")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class PedestalItem extends Event {
+        @Label("Altar")
+        String altar;
+
+        @Label("Action")
+        @Description("place or retrieve")
+        String action;
+
+        @Label("Item")
+        String item;
+    }
+
+    @Name("com.vtalters.RitualStage")
+    @Label("Ritual Stage")
+    @Description("One stage of a summoning ritual, committed when the ritual moves on to the next stage")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class RitualStage extends Event {
+        @Label("Altar")
+        String altar;
+
+        @Label("Stage")
+        String stage;
+
+        @Label("Ticks")
+        @Description("Configured length of the stage in server ticks")
+        int ticks;
+    }
+
+    @Name("com.vtalters.BossSpawn")
+    @Label("Boss Spawn")
+    @Description("Spawning the boss at the end of a ritual, including the MythicMobs API call")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class BossSpawn extends Event {
+        @Label("Altar")
+        String altar;
+
+        @Label("Boss")
+        String boss;
+
+        @Label("MythicMob")
+        boolean mythicMob;
+
+        @Label("Spawned")
+        boolean spawned;
+    }
+
+    @Name("com.vtalters.AltarSerialize")
+    @Label("Altar Serialize")
+    @Description("Serializing a changed altar and handing it to the storage, or queueing its deletion")
+    @Category(CATEGORY)
+    public static final class AltarSerialize extends Event {
+        @Label("Altar")
+        String altar;
+
+        @Label("Storage")
+        String storage;
+    }
+
+    @Name("com.vtalters.StorageWrite")
+    @Label("Storage Write")
+    @Description("One write to disk on the storage thread")
+    @Category(CATEGORY)
+    public static final class StorageWrite extends Event {
+        @Label("Storage")
+        String storage;
+
+        @Label("Target")
+        @Description("The altar row written or deleted, or the file written as a whole")
+        String target;
+    }
+
+    @Name("com.vtalters.AltarReload")
+    @Label("Altar Reload")
+    @Description("Loading every altar from storage and rebuilding the block index")
+    @Category(CATEGORY)
+    public static final class AltarReload extends Event {
+        @Label("Altars")
+        int altars;
+
+        @Label("Storage")
+        String storage;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+/**
+ * An item floating in the air for the ritual animation, moved by its visual centre.
+ */
+public interface FloatingItem {
+
+    void moveTo(double x, double y, double z);
+
+    boolean isValid();
+
+    void remove();
+}
@@ -0,0 +1,39 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Backend that shows floating items during the ritual animation.
+ */
+public interface FloatingItemRenderer {
+
+    String getName();
+
+    /** Shows {@code stack} with its visual centre at {@code loc}. */
+    FloatingItem spawn(Location loc, ItemStack stack);
+
+    /**
+     * Picks the backend from {@code effects.ritual-visuals}: item display entities when the server has them,
+     * otherwise invisible armor stands.
+     */
+    static FloatingItemRenderer create(VtAlters plugin, EffectProfile effects) {
+        EffectProfile.RitualVisuals type = effects.getRitualVisuals();
+        if (type != EffectProfile.RitualVisuals.ARMOR_STAND) {
+            FloatingItemRenderer display = DisplayItemRenderer.tryCreate();
+            if (display != null) return display;
+            if (type == EffectProfile.RitualVisuals.DISPLAY) {
+                plugin.getErrorHandler().logError("effects.ritual-visuals is set to 'display' but this server has no item display entities. Using armor stands instead.", "Configuration Error");
+            }
+        }
+        return new ArmorStandItemRenderer();
+    }
+}
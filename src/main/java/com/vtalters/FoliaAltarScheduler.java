@@ -0,0 +1,104 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * Runs work on Folia's global and region schedulers. The plugin compiles against the Paper 1.17 API,
+ * so the Folia scheduler API is reached through reflection.
+ */
+public final class FoliaAltarScheduler implements AltarScheduler {
+
+    private final VtAlters plugin;
+    private final Object globalScheduler;
+    private final Object regionScheduler;
+    private final Method globalRunAtFixedRate;
+    private final Method globalRunDelayed;
+    private final Method regionRunAtFixedRate;
+    private final Method regionExecute;
+    private final Method isOwnedByCurrentRegion;
+    private final Method cancel;
+
+    public FoliaAltarScheduler(VtAlters plugin) throws ReflectiveOperationException {
+        this.plugin = plugin;
+        Object server = plugin.getServer();
+        this.globalScheduler = server.getClass().getMethod("getGlobalRegionScheduler").invoke(server);
+        this.regionScheduler = server.getClass().getMethod("getRegionScheduler").invoke(server);
+        Class<?> globalType = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+        Class<?> regionType = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+        Class<?> taskType = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+        this.globalRunAtFixedRate = globalType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+        this.globalRunDelayed = globalType.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+        this.regionRunAtFixedRate = regionType.getMethod("runAtFixedRate", Plugin.class, Location.class, Consumer.class, long.class, long.class);
+        this.regionExecute = regionType.getMethod("execute", Plugin.class, Location.class, Runnable.class);
+        this.isOwnedByCurrentRegion = Bukkit.class.getMethod("isOwnedByCurrentRegion", Location.class);
+        this.cancel = taskType.getMethod("cancel");
+    }
+
+    public static boolean isSupported() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    @Override
+    public Task runTimer(Runnable task, long delay, long period) {
+        // Folia rejects an initial delay below one tick.
+        return wrap(call(globalRunAtFixedRate, globalScheduler, plugin, consumer(task), Math.max(1L, delay), period));
+    }
+
+    @Override
+    public Task runLater(Runnable task, long delay) {
+        return wrap(call(globalRunDelayed, globalScheduler, plugin, consumer(task), Math.max(1L, delay)));
+    }
+
+    @Override
+    public Task runTimerAt(Location loc, Runnable task, long delay, long period) {
+        return wrap(call(regionRunAtFixedRate, regionScheduler, plugin, loc, consumer(task), Math.max(1L, delay), period));
+    }
+
+    @Override
+    public void runAt(Location loc, Runnable task) {
+        if ((Boolean) call(isOwnedByCurrentRegion, null, loc)) {
+            task.run();
+        } else {
+            call(regionExecute, regionScheduler, plugin, loc, task);
+        }
+    }
+
+    private static Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    private Task wrap(Object scheduledTask) {
+        return () -> call(cancel, scheduledTask);
+    }
+
+    private static Object call(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Folia scheduler call failed: " + method.getName(), e);
+        }
+    }
+}
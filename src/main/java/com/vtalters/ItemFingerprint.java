@@ -0,0 +1,48 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Hash key for an item ignoring its amount, built from the material and the hash of its meta.
+ * Equal hashes are confirmed with a single {@link ItemStack#isSimilar} call, so a lookup costs
+ * one meta comparison at most instead of one per candidate.
+ */
+public final class ItemFingerprint {
+
+    private final Material type;
+    private final int metaHash;
+    private final ItemStack item;
+
+    private ItemFingerprint(Material type, int metaHash, ItemStack item) {
+        this.type = type;
+        this.metaHash = metaHash;
+        this.item = item;
+    }
+
+    public static ItemFingerprint of(ItemStack item) {
+        int metaHash = item.hasItemMeta() ? item.getItemMeta().hashCode() : 0;
+        return new ItemFingerprint(item.getType(), metaHash, item);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ItemFingerprint)) return false;
+        ItemFingerprint other = (ItemFingerprint) o;
+        return type == other.type && metaHash == other.metaHash && item.isSimilar(other.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + metaHash;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves plugin metrics in the Prometheus text format at {@code http://127.0.0.1:<metrics.port>/metrics}.
+ * The endpoint only listens on the loopback address. Nothing is collected for it in advance: each scrape reads
+ * the counters and gauges the plugin already keeps, on the HTTP server's own thread and without taking locks.
+ */
+public final class MetricsExporter {
+
+    private final VtAlters plugin;
+    private HttpServer server;
+
+    public MetricsExporter(VtAlters plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (server != null || !plugin.getConfig().getBoolean("metrics.enabled", false)) return;
+        int port = plugin.getConfig().getInt("metrics.port", 9464);
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/metrics", this::handle);
+            server.start();
+            plugin.getLogger().info("Serving metrics at http://127.0.0.1:" + port + "/metrics");
+        } catch (IOException e) {
+            server = null;
+            plugin.getErrorHandler().logError("Could not start the metrics endpoint on port " + port + ": " + e.getMessage(), "Metrics Error");
+        }
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String render() {
+        StringBuilder out = new StringBuilder(4096);
+        AltarManager altarManager = plugin.getAltarManager();
+        if (altarManager != null) {
+            gauge(out, "vtalters_altars", "Altars defined on the server.", altarManager.getAltarCount());
+            gauge(out, "vtalters_altars_active", "Altars whose chunks are all loaded.", altarManager.getActiveAltarCount());
+            gauge(out, "vtalters_rituals_active", "Summoning rituals currently running.", altarManager.getRitualTicker().size());
+            gauge(out, "vtalters_pedestal_emitters", "Pedestal particle rings currently emitting.", altarManager.getEffectEngine().size());
+            gauge(out, "vtalters_placed_items", "Items lying on pedestals.", altarManager.getPlacedItemCount());
+            gauge(out, "vtalters_effect_quality_tier", "Effect quality tier, 0 (HIGH) to 3 (MINIMAL).",
+                    altarManager.getQualityController().getTier().ordinal());
+
+            header(out, "vtalters_summons_total", "Bosses summoned since the plugin was loaded.", "counter");
+            for (Map.Entry<String, LongAdder> entry : altarManager.getSummonCounts().entrySet()) {
+                out.append("vtalters_summons_total{boss=\"").append(escape(entry.getKey())).append("\"} ")
+                        .append(entry.getValue().sum()).append('\n');
+            }
+
+            ParticleBudget budget = altarManager.getParticleBudget();
+            counter(out, "vtalters_particle_budget_throttled_ticks_total", "Ticks in which effects asked for more particles than the budget.",
+                    budget.getThrottledTicks());
+            counter(out, "vtalters_particles_dropped_total", "Particles skipped because the budget was used up.", budget.getDroppedParticles());
+        }
+
+        header(out, "vtalters_timing_seconds", "Time spent in plugin handlers, tasks and storage writes.", "summary");
+        for (TimingHistogram timing : plugin.getTimings().getAll()) {
+            String label = "name=\"" + escape(timing.getName()) + "\"";
+            sample(out, "vtalters_timing_seconds{" + label + ",quantile=\"0.5\"}", seconds(timing.getPercentileNanos(50)));
+            sample(out, "vtalters_timing_seconds{" + label + ",quantile=\"0.99\"}", seconds(timing.getPercentileNanos(99)));
+            sample(out, "vtalters_timing_seconds_sum{" + label + "}", seconds(timing.getTotalNanos()));
+            out.append("vtalters_timing_seconds_count{").append(label).append("} ").append(timing.getCount()).append('\n');
+        }
+        header(out, "vtalters_timing_max_seconds", "Longest single run of each timing.", "gauge");
+        for (TimingHistogram timing : plugin.getTimings().getAll()) {
+            sample(out, "vtalters_timing_max_seconds{name=\"" + escape(timing.getName()) + "\"}", seconds(timing.getMaxNanos()));
+        }
+        return out.toString();
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String series, double value) {
+        out.append(series).append(' ').append(String.format(Locale.ROOT, "%.9f", value)).append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
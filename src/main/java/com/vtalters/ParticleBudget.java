@@ -0,0 +1,118 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many particles all altar effects may spawn in one server tick.
+ * Effects ask for capacity before spawning. When a tick asks for more than the budget, the detail level is
+ * raised for the following ticks so effects thin themselves out, and lowered again once demand drops.
+ * The counters are atomic and callers claim what they need for a whole tick at once, so on Folia the regions
+ * share the budget without taking a lock. There the window is the global region's tick, i.e. every 50 ms.
+ */
+public final class ParticleBudget {
+
+    public static final int MAX_DETAIL_LEVEL = 3;
+
+    private final VtAlters plugin;
+    private final int perTick;
+    private final TimingHistogram timing;
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicInteger demand = new AtomicInteger();
+    private final LongAdder droppedParticles = new LongAdder();
+    private volatile int detailLevel;
+    private volatile int minimumDetailLevel;
+    // Only written by the reset task.
+    private volatile long throttledTicks;
+    private AltarScheduler.Task task;
+
+    public ParticleBudget(VtAlters plugin, EffectProfile effects) {
+        this.plugin = plugin;
+        this.perTick = effects.getParticleBudgetPerTick();
+        this.timing = plugin.getTimings().get("effects.particle-budget");
+    }
+
+    public void start() {
+        if (task == null) {
+            task = plugin.getAltarScheduler().runTimer(this::nextTick, 0L, 1L);
+        }
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void nextTick() {
+        long start = System.nanoTime();
+        int lastDemand = demand.getAndSet(0);
+        used.set(0);
+        if (lastDemand > perTick) {
+            throttledTicks++;
+            detailLevel = Math.min(MAX_DETAIL_LEVEL, detailLevel + 1);
+        } else if (lastDemand <= perTick / 2 && detailLevel > 0) {
+            detailLevel--;
+        }
+        timing.recordSince(start);
+    }
+
+    /** Grants up to {@code wanted} particles for this tick and returns how many may be spawned. */
+    public int request(int wanted) {
+        if (wanted <= 0) return 0;
+        demand.addAndGet(wanted);
+        int granted;
+        while (true) {
+            int current = used.get();
+            granted = Math.min(wanted, perTick - current);
+            if (granted <= 0) {
+                droppedParticles.add(wanted);
+                return 0;
+            }
+            if (used.compareAndSet(current, current + granted)) break;
+        }
+        if (granted < wanted) {
+            droppedParticles.add(wanted - granted);
+        }
+        return granted;
+    }
+
+    /** Grants exactly {@code count} particles for this tick, or none at all. */
+    public boolean tryAcquire(int count) {
+        demand.addAndGet(count);
+        while (true) {
+            int current = used.get();
+            if (current + count > perTick) {
+                droppedParticles.add(count);
+                return false;
+            }
+            if (used.compareAndSet(current, current + count)) return true;
+        }
+    }
+
+    /** 0 is full detail; each level halves the particles of rings and bursts and drops optional effects. */
+    public int getDetailLevel() { return Math.max(detailLevel, minimumDetailLevel); }
+
+    /** Keeps the detail level at or above {@code level} regardless of demand; set by the quality controller. */
+    public void setMinimumDetailLevel(int level) {
+        this.minimumDetailLevel = Math.min(MAX_DETAIL_LEVEL, Math.max(0, level));
+    }
+
+    /** Scales a full-detail particle count down to the current detail level, never below one. */
+    public int scale(int fullDetail) {
+        return Math.max(1, fullDetail >> getDetailLevel());
+    }
+
+    public int getPerTick() { return perTick; }
+    public long getThrottledTicks() { return throttledTicks; }
+    public long getDroppedParticles() { return droppedParticles.sum(); }
+}
@@ -0,0 +1,74 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The players close enough to an altar to see its particles.
+ * The list is only rebuilt by {@link #refresh()}; effects send particles to these players alone.
+ */
+public final class ParticleViewers {
+
+    private final World world;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final double rangeSquared;
+    private final List<Player> players = new ArrayList<>();
+
+    public ParticleViewers(Location center, double range) {
+        this.world = center.getWorld();
+        this.x = center.getBlockX() + 0.5;
+        this.y = center.getBlockY() + 0.5;
+        this.z = center.getBlockZ() + 0.5;
+        this.rangeSquared = range * range;
+    }
+
+    public void refresh() {
+        players.clear();
+        for (Player player : world.getPlayers()) {
+            Location loc = player.getLocation();
+            double dx = loc.getX() - x;
+            double dy = loc.getY() - y;
+            double dz = loc.getZ() - z;
+            if (dx * dx + dy * dy + dz * dz <= rangeSquared) {
+                players.add(player);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return players.isEmpty();
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public void spawn(Particle particle, double px, double py, double pz, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            // The list can be up to one refresh old; skip players who left or changed world since.
+            if (player.isOnline() && player.getWorld() == world) {
+                player.spawnParticle(particle, px, py, pz, count, offsetX, offsetY, offsetZ, extra);
+            }
+        }
+    }
+
+    public void spawn(Particle particle, Location loc, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        spawn(particle, loc.getX(), loc.getY(), loc.getZ(), count, offsetX, offsetY, offsetZ, extra);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Bukkit;
+
+import java.lang.reflect.Method;
+
+/**
+ * Samples Paper's average tick time (MSPT) once a second and moves altar effects between quality tiers.
+ * Lower tiers emit pedestal and ready particles less often and force a coarser particle detail level.
+ * A tier is dropped as soon as MSPT crosses its threshold and regained one step at a time once MSPT
+ * is back below the threshold by {@code recover-margin}.
+ * On servers that do not report MSPT, adaptive quality stays off and effects run at {@link Tier#HIGH}.
+ */
+public final class QualityController {
+
+    public enum Tier {
+        HIGH(0, 1),
+        MEDIUM(1, 2),
+        LOW(2, 3),
+        MINIMAL(3, 4);
+
+        private final int detailLevel;
+        private final int interval;
+
+        Tier(int detailLevel, int interval) {
+            this.detailLevel = detailLevel;
+            this.interval = interval;
+        }
+
+        /** The lowest particle detail level allowed in this tier. */
+        public int getDetailLevel() { return detailLevel; }
+
+        /** Periodic effects only emit on every n-th run in this tier. */
+        public int getInterval() { return interval; }
+    }
+
+    private static final long SAMPLE_PERIOD_TICKS = 20L;
+    private static final String UNSUPPORTED = "This server does not report its tick time, adaptive effect quality is disabled.";
+
+    private final VtAlters plugin;
+    private final ParticleBudget budget;
+    private final EffectEngine engine;
+    private volatile boolean enabled;
+    private final double[] thresholds;
+    private final double recoverMargin;
+    private final Method averageTickTime;
+
+    private volatile Tier tier = Tier.HIGH;
+    private volatile double mspt;
+    private AltarScheduler.Task task;
+
+    public QualityController(VtAlters plugin, EffectProfile effects, ParticleBudget budget, EffectEngine engine) {
+        this.plugin = plugin;
+        this.budget = budget;
+        this.engine = engine;
+        boolean configured = effects.isAdaptiveQuality();
+        this.thresholds = new double[] {
+                0.0,
+                effects.getMediumQualityMspt(),
+                effects.getLowQualityMspt(),
+                effects.getMinimalQualityMspt()
+        };
+        this.recoverMargin = effects.getQualityRecoverMargin();
+        this.averageTickTime = findAverageTickTime();
+        this.enabled = configured && averageTickTime != null;
+        if (configured && averageTickTime == null) {
+            plugin.getLogger().info(UNSUPPORTED);
+        }
+    }
+
+    private static Method findAverageTickTime() {
+        try {
+            return Bukkit.class.getMethod("getAverageTickTime");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public void start() {
+        if (!enabled || task != null) return;
+        task = plugin.getAltarScheduler().runTimer(this::sample, SAMPLE_PERIOD_TICKS, SAMPLE_PERIOD_TICKS);
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void sample() {
+        try {
+            mspt = ((Number) averageTickTime.invoke(null)).doubleValue();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Regionized servers keep the method but have no single tick to average.
+            plugin.getLogger().info(UNSUPPORTED);
+            enabled = false;
+            shutdown();
+            setTier(Tier.HIGH);
+            return;
+        }
+        update();
+    }
+
+    private void update() {
+        int level = tier.ordinal();
+        int target = level;
+        while (target < thresholds.length - 1 && mspt >= thresholds[target + 1]) {
+            target++;
+        }
+        if (target == level && level > 0 && mspt < thresholds[level] - recoverMargin) {
+            target = level - 1;
+        }
+        if (target != level) {
+            setTier(Tier.values()[target]);
+        }
+    }
+
+    private void setTier(Tier tier) {
+        this.tier = tier;
+        budget.setMinimumDetailLevel(tier.getDetailLevel());
+        engine.setEmitInterval(tier.getInterval());
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public Tier getTier() { return tier; }
+    public double getMspt() { return mspt; }
+}
@@ -0,0 +1,55 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+/**
+ * Precomputed point offsets for the two crossed ritual rings.
+ * Both rings are vertical, turned 45 degrees around Y, and their points flow once around the ring every {@link #PHASES} ticks.
+ */
+public final class RingGeometry {
+
+    public static final int PHASES = 20;
+    public static final int POINTS_PER_RING = 32;
+    public static final double RADIUS = 0.8;
+
+    // Per phase: x, y, z of every point of the first ring followed by the second ring.
+    private static final double[][] OFFSETS = new double[PHASES][POINTS_PER_RING * 2 * 3];
+
+    static {
+        double rotation = Math.PI / 4.0;
+        double cosRotation = Math.cos(rotation);
+        double sinRotation = Math.sin(rotation);
+        for (int phase = 0; phase < PHASES; phase++) {
+            double flow = 2 * Math.PI * phase / PHASES;
+            double[] offsets = OFFSETS[phase];
+            int second = POINTS_PER_RING * 3;
+            for (int point = 0; point < POINTS_PER_RING; point++) {
+                double angle = 2 * Math.PI * point / POINTS_PER_RING + flow;
+                double horizontal = RADIUS * Math.cos(angle);
+                double vertical = RADIUS * Math.sin(angle);
+                int i = point * 3;
+                // First ring lies in the XY plane, second in the ZY plane, both then rotated around Y.
+                offsets[i] = horizontal * cosRotation;
+                offsets[i + 1] = vertical;
+                offsets[i + 2] = horizontal * sinRotation;
+                offsets[second + i] = -horizontal * sinRotation;
+                offsets[second + i + 1] = vertical;
+                offsets[second + i + 2] = horizontal * cosRotation;
+            }
+        }
+    }
+
+    private RingGeometry() {
+    }
+
+    /** Returns the x, y, z offsets of all ring points for the given tick. The array must not be modified. */
+    public static double[] offsets(int tick) {
+        return OFFSETS[tick % PHASES];
+    }
+}
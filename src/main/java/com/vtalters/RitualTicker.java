@@ -0,0 +1,105 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Advances every running ritual from one shared 1-tick task.
+ * Finished rituals are dropped right away, and the task only runs while at least one ritual is active.
+ * On Folia each ritual instead ticks on the region that owns its altar.
+ */
+public final class RitualTicker {
+
+    public interface Ritual {
+        /** Advances the ritual by one tick; returns false once it has finished. */
+        boolean tick();
+
+        /** Stops the ritual early and removes anything it spawned. */
+        void cancel();
+    }
+
+    private final VtAlters plugin;
+    private final AltarScheduler scheduler;
+    private final TimingHistogram timing;
+    private final List<Ritual> rituals = new ArrayList<>();
+    private final Map<Ritual, AltarScheduler.Task> regionRituals = new ConcurrentHashMap<>();
+    private AltarScheduler.Task task;
+
+    public RitualTicker(VtAlters plugin) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getAltarScheduler();
+        this.timing = plugin.getTimings().get("rituals.tick");
+    }
+
+    /** Starts ticking {@code ritual}; {@code anchor} is the altar centre, used to pick the region on Folia. */
+    public void start(Ritual ritual, Location anchor) {
+        if (scheduler.isRegionized()) {
+            regionRituals.put(ritual, scheduler.runTimerAt(anchor, () -> {
+                if (!advance(ritual)) {
+                    AltarScheduler.Task regionTask = regionRituals.remove(ritual);
+                    if (regionTask != null) regionTask.cancel();
+                }
+            }, 0L, 1L));
+            return;
+        }
+        rituals.add(ritual);
+        if (task == null) {
+            task = scheduler.runTimer(this::tick, 0L, 1L);
+        }
+    }
+
+    public int size() { return rituals.size() + regionRituals.size(); }
+
+    private boolean advance(Ritual ritual) {
+        long start = System.nanoTime();
+        try {
+            return ritual.tick();
+        } catch (RuntimeException e) {
+            plugin.getErrorHandler().logError("A ritual animation failed and was stopped: " + e, "Ritual Error");
+            ritual.cancel();
+            return false;
+        } finally {
+            timing.recordSince(start);
+        }
+    }
+
+    private void tick() {
+        for (int i = rituals.size() - 1; i >= 0; i--) {
+            if (!advance(rituals.get(i))) {
+                int last = rituals.size() - 1;
+                rituals.set(i, rituals.get(last));
+                rituals.remove(last);
+            }
+        }
+        if (rituals.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        rituals.forEach(Ritual::cancel);
+        rituals.clear();
+        regionRituals.forEach((ritual, regionTask) -> {
+            regionTask.cancel();
+            ritual.cancel();
+        });
+        regionRituals.clear();
+    }
+}
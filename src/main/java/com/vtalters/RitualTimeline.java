@@ -0,0 +1,117 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * The stages of the summoning animation, each with a duration and an easing curve.
+ * Defaults can be overridden per stage under {@code effects.ritual-timeline.<stage>} in config.yml.
+ */
+public final class RitualTimeline {
+
+    public static final int PREPARE = 0;
+    public static final int GATHER = 1;
+    public static final int ORBIT = 2;
+    public static final int CONVERGE = 3;
+
+    public enum Easing {
+        LINEAR,
+        EASE_IN,
+        EASE_OUT,
+        EASE_IN_OUT;
+
+        public double apply(double t) {
+            switch (this) {
+                case EASE_IN: return t * t;
+                case EASE_OUT: return t * (2 - t);
+                case EASE_IN_OUT: return t < 0.5 ? 2 * t * t : -1 + (4 - 2 * t) * t;
+                default: return t;
+            }
+        }
+    }
+
+    public static final class Stage {
+        private final String name;
+        private final int duration;
+        private final Easing easing;
+
+        public Stage(String name, int duration, Easing easing) {
+            this.name = name;
+            this.duration = duration;
+            this.easing = easing;
+        }
+
+        public String getName() { return name; }
+        public int getDuration() { return duration; }
+        public Easing getEasing() { return easing; }
+    }
+
+    private final Stage[] stages;
+    private final int[] starts;
+    private final int totalTicks;
+
+    private RitualTimeline(Stage[] stages) {
+        this.stages = stages;
+        this.starts = new int[stages.length];
+        int tick = 0;
+        for (int i = 0; i < stages.length; i++) {
+            starts[i] = tick;
+            tick += stages[i].getDuration();
+        }
+        this.totalTicks = tick;
+    }
+
+    public static RitualTimeline load(VtAlters plugin) {
+        return new RitualTimeline(new Stage[] {
+                loadStage(plugin, "prepare", 40, Easing.LINEAR),
+                loadStage(plugin, "gather", 14, Easing.LINEAR),
+                loadStage(plugin, "orbit", 60, Easing.LINEAR),
+                loadStage(plugin, "converge", 5, Easing.LINEAR)
+        });
+    }
+
+    private static Stage loadStage(VtAlters plugin, String name, int defaultDuration, Easing defaultEasing) {
+        FileConfiguration config = plugin.getConfig();
+        String path = "effects.ritual-timeline." + name;
+        int duration = Math.max(1, config.getInt(path + ".duration", defaultDuration));
+        String easingName = config.getString(path + ".easing", defaultEasing.name());
+        Easing easing = defaultEasing;
+        try {
+            easing = Easing.valueOf(easingName.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            plugin.getErrorHandler().logError("Invalid easing in config.yml at path '" + path + ".easing': " + easingName, "Configuration Error");
+        }
+        return new Stage(name, duration, easing);
+    }
+
+    public int getTotalTicks() { return totalTicks; }
+    public Stage getStage(int index) { return stages[index]; }
+
+    /** Returns the index of the stage running at {@code tick}, or -1 once the timeline is over. */
+    public int stageAt(int tick) {
+        for (int i = stages.length - 1; i >= 0; i--) {
+            if (tick >= starts[i]) {
+                return tick < starts[i] + stages[i].getDuration() ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    /** Ticks elapsed since the given stage started. */
+    public int ticksInto(int stage, int tick) {
+        return tick - starts[stage];
+    }
+
+    /** Eased progress of the given stage at {@code tick}, from 0 on its first tick towards 1. */
+    public double progress(int stage, int tick) {
+        double t = (double) ticksInto(stage, tick) / stages[stage].getDuration();
+        return stages[stage].getEasing().apply(t);
+    }
+}
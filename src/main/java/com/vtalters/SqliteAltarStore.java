@@ -0,0 +1,175 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Stores each altar as one row of an embedded SQLite database (altars.db), so an edit only rewrites
+ * that altar. Rows hold the same YAML layout as altars.yml. The JDBC driver ships with the server.
+ * All database access happens on a single background thread.
+ */
+public class SqliteAltarStore implements AltarStore {
+
+    private final VtAlters plugin;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VtAlters-SQLite");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Connection connection;
+    private final TimingHistogram writeTiming;
+
+    public SqliteAltarStore(VtAlters plugin) throws SQLException {
+        this.plugin = plugin;
+        this.writeTiming = plugin.getTimings().get("storage.write");
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("The SQLite JDBC driver is not available on this server.", e);
+        }
+        File databaseFile = new File(plugin.getDataFolder(), "altars.db");
+        databaseFile.getParentFile().mkdirs();
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS altars (name TEXT PRIMARY KEY, data TEXT NOT NULL)");
+        }
+    }
+
+    @Override
+    public String getType() {
+        return "sqlite";
+    }
+
+    @Override
+    public Map<String, ConfigurationSection> loadAll() {
+        Map<String, String> rows = await(() -> {
+            Map<String, String> result = new LinkedHashMap<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name, data FROM altars ORDER BY name")) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("name"), resultSet.getString("data"));
+                }
+            }
+            return result;
+        });
+
+        Map<String, ConfigurationSection> altars = new LinkedHashMap<>();
+        if (rows == null) {
+            return altars;
+        }
+        for (Map.Entry<String, String> row : rows.entrySet()) {
+            YamlConfiguration section = new YamlConfiguration();
+            try {
+                section.loadFromString(row.getValue());
+                altars.put(row.getKey(), section);
+            } catch (InvalidConfigurationException e) {
+                plugin.getErrorHandler().logError("Could not parse altar '" + row.getKey() + "' from altars.db: " + e.getMessage(), "Altar Data Error");
+            }
+        }
+        return altars;
+    }
+
+    @Override
+    public void save(String altarName, ConfigurationSection data) {
+        YamlConfiguration snapshot = new YamlConfiguration();
+        AltarSerializer.copy(data, snapshot);
+        executor.execute(() -> {
+            FlightEvents.StorageWrite event = new FlightEvents.StorageWrite();
+            event.begin();
+            long start = System.nanoTime();
+            try (PreparedStatement statement = connection.prepareStatement("INSERT OR REPLACE INTO altars (name, data) VALUES (?, ?)")) {
+                statement.setString(1, altarName);
+                statement.setString(2, snapshot.saveToString());
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not save altar '" + altarName + "' to altars.db", e);
+            }
+            writeTiming.recordSince(start);
+            commitWrite(event, altarName);
+        });
+    }
+
+    @Override
+    public void delete(String altarName) {
+        executor.execute(() -> {
+            FlightEvents.StorageWrite event = new FlightEvents.StorageWrite();
+            event.begin();
+            long start = System.nanoTime();
+            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM altars WHERE name = ?")) {
+                statement.setString(1, altarName);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not delete altar '" + altarName + "' from altars.db", e);
+            }
+            writeTiming.recordSince(start);
+            commitWrite(event, altarName);
+        });
+    }
+
+    private void commitWrite(FlightEvents.StorageWrite event, String altarName) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.storage = getType();
+            event.target = altarName;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void flush() {
+        await(() -> null);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for pending altars.db writes to finish.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not close altars.db", e);
+        }
+    }
+
+    private <T> T await(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            plugin.getLogger().log(Level.SEVERE, "altars.db operation failed", e.getCause());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Named timing histograms for everything VtAlters runs on server threads.
+ * Callers look their histogram up once and keep it, so recording never touches the map.
+ * Timings survive /vta reload and are only cleared by {@link #reset()}.
+ */
+public final class Timings {
+
+    private static final double NANOS_PER_TICK = 50_000_000.0;
+
+    private final Map<String, TimingHistogram> histograms = new ConcurrentSkipListMap<>();
+    private volatile long sinceNanos = System.nanoTime();
+
+    public TimingHistogram get(String name) {
+        return histograms.computeIfAbsent(name, TimingHistogram::new);
+    }
+
+    /** All histograms, sorted by name. */
+    public Collection<TimingHistogram> getAll() {
+        return histograms.values();
+    }
+
+    /** Server ticks since the last reset, assuming 20 TPS. */
+    public double getWindowTicks() {
+        return Math.max(1.0, (System.nanoTime() - sinceNanos) / NANOS_PER_TICK);
+    }
+
+    public void reset() {
+        histograms.values().forEach(TimingHistogram::reset);
+        sinceNanos = System.nanoTime();
+    }
+}
@@ -10,22 +10,42 @@ package com.vtalters;
 
 import org.bukkit.command.PluginCommand;
 import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.sql.SQLException;
 
 public final class VtAlters extends JavaPlugin {
 
     private AltarManager altarManager;
     private WandManager wandManager;
     private DataManager dataManager;
+    private AltarStore altarStore;
     private LanguageManager languageManager;
     private ErrorHandler errorHandler;
+    private AltarScheduler altarScheduler;
+    private final Timings timings = new Timings();
+    private final MetricsExporter metricsExporter = new MetricsExporter(this);
+
+    public VtAlters() {
+        super();
+    }
+
+    /** Used by MockBukkit, which loads the plugin outside a plugin class loader in the benchmarks module. */
+    protected VtAlters(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
         
         this.errorHandler = new ErrorHandler(this);
+        this.altarScheduler = AltarScheduler.create(this);
         this.dataManager = new DataManager(this);
+        this.altarStore = createAltarStore();
         this.languageManager = new LanguageManager(this);
         this.wandManager = new WandManager(this);
         this.altarManager = new AltarManager(this);
@@ -39,14 +59,23 @@ public final class VtAlters extends JavaPlugin {
             command.setTabCompleter(altarCommand);
         }
 
+        metricsExporter.start();
+
         getLogger().info("VtAlters has been enabled!");
     }
 
     @Override
     public void onDisable() {
+        metricsExporter.stop();
         if (altarManager != null) {
             altarManager.shutdown();
         }
+        if (altarStore != null) {
+            altarStore.close();
+        }
+        if (dataManager != null) {
+            dataManager.shutdown();
+        }
         getLogger().info("VtAlters has been disabled.");
     }
     
@@ -54,12 +83,17 @@ public final class VtAlters extends JavaPlugin {
         if (altarManager != null) {
             altarManager.shutdown();
         }
+        if (altarStore != null) {
+            altarStore.close();
+        }
         HandlerList.unregisterAll(this);
         
         reloadConfig();
         
         errorHandler.clearErrors();
+        metricsExporter.stop();
         dataManager.reloadConfig();
+        this.altarStore = createAltarStore();
         
         this.languageManager = new LanguageManager(this);
         this.wandManager = new WandManager(this);
@@ -74,12 +108,38 @@ public final class VtAlters extends JavaPlugin {
             command.setTabCompleter(altarCommand);
         }
         
+        metricsExporter.start();
+
         getLogger().info("VtAlters reloaded!");
     }
     
+    private AltarStore createAltarStore() {
+        String type = getConfig().getString("storage.type", "yaml");
+        try {
+            return openAltarStore(type);
+        } catch (SQLException | IllegalArgumentException e) {
+            errorHandler.logError("Could not open the '" + type + "' altar storage, falling back to altars.yml: " + e.getMessage(), "Storage Error");
+            return new YamlAltarStore(dataManager);
+        }
+    }
+
+    public AltarStore openAltarStore(String type) throws SQLException {
+        switch (type.toLowerCase()) {
+            case "yaml":
+                return new YamlAltarStore(dataManager);
+            case "sqlite":
+                return new SqliteAltarStore(this);
+            default:
+                throw new IllegalArgumentException("Unknown storage type '" + type + "'");
+        }
+    }
+
     public AltarManager getAltarManager() { return this.altarManager; }
     public WandManager getWandManager() { return this.wandManager; }
     public DataManager getDataManager() { return this.dataManager; }
+    public AltarStore getAltarStore() { return this.altarStore; }
     public LanguageManager getLanguageManager() { return this.languageManager; }
     public ErrorHandler getErrorHandler() { return this.errorHandler; }
+    public AltarScheduler getAltarScheduler() { return this.altarScheduler; }
+    public Timings getTimings() { return this.timings; }
 }
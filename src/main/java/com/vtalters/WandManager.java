@@ -11,11 +11,13 @@ package com.vtalters;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -24,26 +26,32 @@ import java.util.UUID;
 
 public class WandManager {
 
+    private static final Material WAND_MATERIAL = Material.BLAZE_ROD;
+    private static final String WAND_DISPLAY_NAME = ChatColor.GOLD + "" + ChatColor.BOLD + "Altar Setup Wand";
+
     private final VtAlters plugin;
+    private final NamespacedKey wandKey;
     private final ItemStack wand;
     private final Map<UUID, Location> playerSelections = new HashMap<>();
 
     public WandManager(VtAlters plugin) {
         this.plugin = plugin;
+        this.wandKey = new NamespacedKey(plugin, "altar_wand");
         this.wand = createWand();
     }
 
     private ItemStack createWand() {
-        ItemStack item = new ItemStack(Material.BLAZE_ROD);
+        ItemStack item = new ItemStack(WAND_MATERIAL);
         ItemMeta meta = item.getItemMeta();
         if (meta != null) {
-            meta.setDisplayName(ChatColor.GOLD + "" + ChatColor.BOLD + "Altar Setup Wand");
+            meta.setDisplayName(WAND_DISPLAY_NAME);
             meta.setLore(Arrays.asList(
                     ChatColor.YELLOW + "Left/Right click a block",
                     ChatColor.YELLOW + "to select a location for the altar."
             ));
             meta.addEnchant(Enchantment.LURE, 1, false);
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+            meta.getPersistentDataContainer().set(wandKey, PersistentDataType.BYTE, (byte) 1);
             item.setItemMeta(meta);
         }
         return item;
@@ -55,12 +63,19 @@ public class WandManager {
     }
 
     public boolean isWand(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) {
+        // Checked on every interact event, so reject by material before touching any item meta.
+        if (item == null || item.getType() != WAND_MATERIAL || !item.hasItemMeta()) {
             return false;
         }
         ItemMeta meta = item.getItemMeta();
-        ItemMeta wandMeta = this.wand.getItemMeta();
-        return meta != null && wandMeta != null && meta.hasDisplayName() && meta.getDisplayName().equals(wandMeta.getDisplayName());
+        if (meta == null) {
+            return false;
+        }
+        if (meta.getPersistentDataContainer().has(wandKey, PersistentDataType.BYTE)) {
+            return true;
+        }
+        // Wands handed out before the tag was added only carry the display name.
+        return meta.hasDisplayName() && meta.getDisplayName().equals(WAND_DISPLAY_NAME);
     }
 
     public void setSelection(Player player, Location location) {
@@ -0,0 +1,71 @@
+/*
+ * VtAlters - A plugin for summoning bosses via altars.
+ * Copyright (c) 2025 thangks
+ *
+ * Licensed under the MIT License.
+ * See the LICENSE file in the root of this project for more information.
+ */
+
+package com.vtalters;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class YamlAltarStore implements AltarStore {
+
+    private final DataManager dataManager;
+
+    public YamlAltarStore(DataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    @Override
+    public String getType() {
+        return "yaml";
+    }
+
+    @Override
+    public Map<String, ConfigurationSection> loadAll() {
+        Map<String, ConfigurationSection> altars = new LinkedHashMap<>();
+        ConfigurationSection altarsSection = dataManager.getConfig().getConfigurationSection("altars");
+        if (altarsSection == null) {
+            return altars;
+        }
+        for (String altarName : altarsSection.getKeys(false)) {
+            ConfigurationSection section = altarsSection.getConfigurationSection(altarName);
+            if (section != null) {
+                altars.put(altarName, section);
+            }
+        }
+        return altars;
+    }
+
+    @Override
+    public void save(String altarName, ConfigurationSection data) {
+        // Region threads on Folia may save concurrently; DataManager snapshots under the same lock.
+        synchronized (dataManager) {
+            AltarSerializer.copy(data, dataManager.getConfig().createSection("altars." + altarName));
+            dataManager.requestSave();
+        }
+    }
+
+    @Override
+    public void delete(String altarName) {
+        synchronized (dataManager) {
+            dataManager.getConfig().set("altars." + altarName, null);
+            dataManager.requestSave();
+        }
+    }
+
+    @Override
+    public void flush() {
+        dataManager.flush();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}